@@ -0,0 +1,62 @@
+package com.example.guest.benchmark;
+
+import com.example.guest.GuestServiceApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 벤치마크용 애플리케이션 컨텍스트 (웹 서버 없이, MySQL 호환 모드 H2 + Flyway 스키마)
+ */
+final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    static ConfigurableApplicationContext start() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("spring.datasource.url",
+                "jdbc:h2:mem:bench-" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.jpa.hibernate.ddl-auto", "validate");
+        properties.put("spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+        properties.put("spring.jpa.show-sql", false);
+        properties.put("services.appointment.url", "http://127.0.0.1:1");
+        properties.put("services.appointment.api-key", "bench");
+        properties.put("services.user.url", "http://127.0.0.1:1");
+        properties.put("services.user.api-key", "bench");
+        properties.put("logging.level.root", "WARN");
+
+        return new SpringApplicationBuilder(GuestServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(properties)
+                .run();
+    }
+
+    /**
+     * appointmentId 약속에 count명의 참가자 저장 (user_id는 "bench-user-{n}")
+     */
+    static void seedGuests(ConfigurableApplicationContext context, String appointmentId, int count) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new Object[] {
+                appointmentId + "-guest-" + i, appointmentId, "bench-user-" + i, i % 3 == 0 ? "late" : "coming", now, now
+            });
+        }
+        context.getBean(JdbcTemplate.class).batchUpdate(
+                "INSERT INTO guests (guest_id, appointment_id, user_id, guest_status, created_at, updated_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?)", rows);
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.guest.benchmark;
+
+import com.example.guest.service.id.GuestIdGenerator;
+import com.example.guest.service.id.SnowflakeGuestIdGenerator;
+import com.example.guest.service.id.UlidGuestIdGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Guest ID 생성 처리량 (IDs/sec)
+ * - legacy: 기존 "guest" + currentTimeMillis (같은 밀리초 충돌 발생, 비교 기준)
+ * - contended*: 8개 스레드가 같은 생성기를 공유하는 경우
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class GuestIdGeneratorBenchmark {
+
+    private final GuestIdGenerator ulid = new UlidGuestIdGenerator();
+    private final GuestIdGenerator snowflake = new SnowflakeGuestIdGenerator(1);
+
+    @Benchmark
+    public String legacy() {
+        return "guest" + System.currentTimeMillis();
+    }
+
+    @Benchmark
+    public String randomUuid() {
+        return "guest" + UUID.randomUUID();
+    }
+
+    @Benchmark
+    public String ulid() {
+        return ulid.nextId();
+    }
+
+    @Benchmark
+    public String snowflake() {
+        return snowflake.nextId();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String contendedUlid() {
+        return ulid.nextId();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String contendedSnowflake() {
+        return snowflake.nextId();
+    }
+}
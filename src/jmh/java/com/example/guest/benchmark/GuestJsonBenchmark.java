@@ -0,0 +1,105 @@
+package com.example.guest.benchmark;
+
+import com.example.guest.dto.ApiResponse;
+import com.example.guest.dto.response.GuestResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GuestResponse / ApiResponse JSON 직렬화 비용
+ * ObjectMapper는 애플리케이션과 같이 SNAKE_CASE + JavaTimeModule(ISO-8601 문자열 날짜)로 구성
+ * - guestResponse: 단건 응답 본문
+ * - guestList: 참가자 목록 응답 본문 (100/1000/5000명)
+ * - apiResponse: 다운스트림 응답 형식(ApiResponse&lt;GuestResponse&gt;) 직렬화 / 역직렬화
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GuestJsonBenchmark {
+
+    private ObjectMapper objectMapper;
+    private ObjectReader apiResponseReader;
+    private GuestResponse guest;
+    private ApiResponse<GuestResponse> apiResponse;
+    private byte[] apiResponseJson;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+                .build();
+        apiResponseReader = objectMapper.readerFor(new TypeReference<ApiResponse<GuestResponse>>() {});
+        guest = GuestList.guest(0, LocalDateTime.now());
+        apiResponse = ApiResponse.success(guest);
+        apiResponseJson = objectMapper.writeValueAsBytes(apiResponse);
+    }
+
+    /**
+     * 목록 크기별 상태 (guestList 벤치마크만 크기별로 실행)
+     */
+    @State(Scope.Benchmark)
+    public static class GuestList {
+
+        @Param({"100", "1000", "5000"})
+        private int guests;
+
+        private List<GuestResponse> responses;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            LocalDateTime now = LocalDateTime.now();
+            responses = new ArrayList<>(guests);
+            for (int i = 0; i < guests; i++) {
+                responses.add(guest(i, now));
+            }
+        }
+
+        static GuestResponse guest(int index, LocalDateTime now) {
+            return GuestResponse.builder()
+                    .guest_id("guest01JBENCH" + index)
+                    .appointment_id("bench-appointment")
+                    .user_id("bench-user-" + index)
+                    .guest_status(index % 3 == 0 ? "late" : "coming")
+                    .created_at(now)
+                    .updated_at(now)
+                    .build();
+        }
+    }
+
+    @Benchmark
+    public byte[] guestResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(guest);
+    }
+
+    @Benchmark
+    public byte[] guestList(GuestList list) throws Exception {
+        return objectMapper.writeValueAsBytes(list.responses);
+    }
+
+    @Benchmark
+    public byte[] apiResponseWrite() throws Exception {
+        return objectMapper.writeValueAsBytes(apiResponse);
+    }
+
+    @Benchmark
+    public ApiResponse<GuestResponse> apiResponseRead() throws Exception {
+        return apiResponseReader.readValue(apiResponseJson);
+    }
+}
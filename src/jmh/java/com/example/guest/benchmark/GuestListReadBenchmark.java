@@ -0,0 +1,94 @@
+package com.example.guest.benchmark;
+
+import com.example.guest.dto.response.GuestResponse;
+import com.example.guest.entity.Guest;
+import com.example.guest.repository.GuestRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 약속 참가자 목록 조회: 엔티티 로딩 후 변환 vs GuestResponse projection
+ * 할당량 비교는 gc 프로파일러 결과의 gc.alloc.rate.norm(B/op) 참고
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GuestListReadBenchmark {
+
+    private static final String APPOINTMENT_ID = "bench-appointment";
+
+    @Param({"100", "1000", "5000"})
+    private int guests;
+
+    private ConfigurableApplicationContext context;
+    private GuestRepository guestRepository;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        BenchmarkApplication.seedGuests(context, APPOINTMENT_ID, guests);
+        guestRepository = context.getBean(GuestRepository.class);
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * 엔티티 로딩 + 변환 (읽기/쓰기 트랜잭션: flush 시 dirty checking 스냅샷 유지)
+     */
+    @Benchmark
+    public List<GuestResponse> entityReadWriteTx() {
+        return readWrite.execute(status -> toResponses(guestRepository.findByAppointmentId(APPOINTMENT_ID)));
+    }
+
+    /**
+     * 엔티티 로딩 + 변환 (읽기 전용 트랜잭션)
+     */
+    @Benchmark
+    public List<GuestResponse> entityReadOnlyTx() {
+        return readOnly.execute(status -> toResponses(guestRepository.findByAppointmentId(APPOINTMENT_ID)));
+    }
+
+    /**
+     * GuestResponse projection (GuestService.getGuests 경로)
+     */
+    @Benchmark
+    public List<GuestResponse> projectionReadOnlyTx() {
+        return readOnly.execute(status -> guestRepository.findResponsesByAppointmentId(APPOINTMENT_ID));
+    }
+
+    private static List<GuestResponse> toResponses(List<Guest> guests) {
+        return guests.stream()
+                .map(guest -> GuestResponse.builder()
+                        .guest_id(guest.getGuest_id())
+                        .appointment_id(guest.getAppointment_id())
+                        .user_id(guest.getUser_id())
+                        .guest_status(guest.getGuest_status())
+                        .created_at(guest.getCreated_at())
+                        .updated_at(guest.getUpdated_at())
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.guest.benchmark;
+
+import com.example.guest.dto.response.GuestResponse;
+import com.example.guest.entity.Guest;
+import com.example.guest.repository.GuestRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 경로의 GuestRepository 쿼리 비용 (H2, Flyway 스키마/인덱스)
+ * 약속 200개 x 참가자 50명을 저장한 상태에서 매 호출마다 임의의 약속/사용자를 조회
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GuestRepositoryQueryBenchmark {
+
+    private static final int APPOINTMENTS = 200;
+    private static final int GUESTS_PER_APPOINTMENT = 50;
+    private static final int PAGE_SIZE = 20;
+
+    private ConfigurableApplicationContext context;
+    private GuestRepository guestRepository;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        for (int a = 0; a < APPOINTMENTS; a++) {
+            BenchmarkApplication.seedGuests(context, appointmentId(a), GUESTS_PER_APPOINTMENT);
+        }
+        guestRepository = context.getBean(GuestRepository.class);
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * 참가 여부 확인 (createGuest 중복 체크, uk_guests_appointment_user)
+     */
+    @Benchmark
+    public Optional<Guest> findByAppointmentIdAndUserId() {
+        int a = random(APPOINTMENTS);
+        return readOnly.execute(status -> guestRepository.findByAppointmentIdAndUserId(
+                appointmentId(a), "bench-user-" + random(GUESTS_PER_APPOINTMENT)));
+    }
+
+    /**
+     * 약속 참가자 목록 (GET /appointments/{id}/guests)
+     */
+    @Benchmark
+    public List<GuestResponse> findResponsesByAppointmentId() {
+        return readOnly.execute(status -> guestRepository.findResponsesByAppointmentId(appointmentId(random(APPOINTMENTS))));
+    }
+
+    /**
+     * 약속 참가자 첫 페이지 (keyset, size=20)
+     */
+    @Benchmark
+    public List<GuestResponse> findPageByAppointmentId() {
+        return readOnly.execute(status -> guestRepository.findPageByAppointmentId(
+                appointmentId(random(APPOINTMENTS)), Limit.of(PAGE_SIZE + 1)));
+    }
+
+    /**
+     * 사용자 참여 목록 (GET /appointments/guests/user/{id}, 사용자당 약속 200개)
+     */
+    @Benchmark
+    public List<GuestResponse> findResponsesByUserId() {
+        return readOnly.execute(status -> guestRepository.findResponsesByUserId("bench-user-" + random(GUESTS_PER_APPOINTMENT)));
+    }
+
+    /**
+     * 참가자 상태 변경 (약속 범위 조건 UPDATE 1회)
+     */
+    @Benchmark
+    public Integer updateGuestStatus() {
+        int a = random(APPOINTMENTS);
+        String guestId = appointmentId(a) + "-guest-" + random(GUESTS_PER_APPOINTMENT);
+        String newStatus = ThreadLocalRandom.current().nextBoolean() ? "late" : "coming";
+        return readWrite.execute(status -> guestRepository.updateGuestStatus(
+                appointmentId(a), guestId, newStatus, LocalDateTime.now()));
+    }
+
+    private static String appointmentId(int index) {
+        return "bench-appointment-" + index;
+    }
+
+    private static int random(int bound) {
+        return ThreadLocalRandom.current().nextInt(bound);
+    }
+}
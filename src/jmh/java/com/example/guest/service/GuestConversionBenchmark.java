@@ -0,0 +1,78 @@
+package com.example.guest.service;
+
+import com.example.guest.dto.response.GuestResponse;
+import com.example.guest.entity.Guest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GuestService.convertToResponse (Entity → GuestResponse) 변환 비용
+ * - single: 단건 (createGuest, getGuest 응답)
+ * - list: 참가자 목록 크기별 변환 (100/1000/5000명, 엔티티 경로로 목록을 만들 때)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GuestConversionBenchmark {
+
+    private Guest guest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        guest = GuestList.guest(0, LocalDateTime.now());
+    }
+
+    /**
+     * 목록 크기별 상태 (list 벤치마크만 크기별로 실행)
+     */
+    @State(Scope.Benchmark)
+    public static class GuestList {
+
+        @Param({"100", "1000", "5000"})
+        private int guests;
+
+        private List<Guest> entities;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            LocalDateTime now = LocalDateTime.now();
+            entities = new ArrayList<>(guests);
+            for (int i = 0; i < guests; i++) {
+                entities.add(guest(i, now));
+            }
+        }
+
+        static Guest guest(int index, LocalDateTime now) {
+            return Guest.builder()
+                    .guest_id("guest01JBENCH" + index)
+                    .appointment_id("bench-appointment")
+                    .user_id("bench-user-" + index)
+                    .guest_status(index % 3 == 0 ? "late" : "coming")
+                    .created_at(now)
+                    .updated_at(now)
+                    .build();
+        }
+    }
+
+    @Benchmark
+    public GuestResponse single() {
+        return GuestService.convertToResponse(guest);
+    }
+
+    @Benchmark
+    public List<GuestResponse> list(GuestList list) {
+        return list.entities.stream().map(GuestService::convertToResponse).toList();
+    }
+}
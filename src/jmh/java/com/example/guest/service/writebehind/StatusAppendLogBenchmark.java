@@ -0,0 +1,87 @@
+package com.example.guest.service.writebehind;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * 상태 write-behind 로그 접수 처리량 (fsync 사용, 8개 스레드 동시 접수)
+ * - synchronous: 잠금 안에서 기록 + fsync (접수마다 fsync 한 번)
+ * - group: 잠금 안에서 기록만, fsync는 잠금 밖 group commit (GuestStatusWriteBehind.accept 경로)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class StatusAppendLogBenchmark {
+
+    @Param({"synchronous", "group"})
+    private String commit;
+
+    private final ReentrantLock logLock = new ReentrantLock();
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private Path directory;
+
+    private StatusAppendLog appendLog;
+
+    private LocalDateTime now;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("status-log-bench");
+        appendLog = new StatusAppendLog(directory, new ObjectMapper().registerModule(new JavaTimeModule()), true);
+        appendLog.replayAndOpen();
+        now = LocalDateTime.now();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        appendLog.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public long accept() throws IOException {
+        long seq = sequence.incrementAndGet();
+        PendingGuestStatus entry = new PendingGuestStatus(seq, "bench-appointment", "guest-" + (seq % 1000),
+                "bench-user", "coming", "late", now);
+        long position;
+        logLock.lock();
+        try {
+            position = appendLog.append(entry);
+            if ("synchronous".equals(commit)) {
+                appendLog.sync(position);
+            }
+        } finally {
+            logLock.unlock();
+        }
+        appendLog.sync(position);
+        return position;
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.guest.loadtest;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일괄 등록(POST /appointments/{id}/guests/batch) 1회 소요 시간 - user_ids 1,000개 기준
+ * - H2: 항상 실행
+ * - MySQL: -Dloadtest.mysql.url=jdbc:mysql://localhost:3306/guest_service 를 주면 추가 실행
+ *   (URL에 rewriteBatchedStatements=true가 없으면 붙여서 batch INSERT가 multi-row INSERT로 전송되게 함)
+ * - 측정 회차의 중앙값이 loadtest.batch.max-millis(기본 1000ms)를 넘으면 실패
+ *
+ * ./gradlew loadTest --tests '*BatchRegistrationLoadTest' -Dloadtest.mysql.url=jdbc:mysql://localhost:3306/guest_service
+ */
+class BatchRegistrationLoadTest {
+
+    private static final String REWRITE_BATCHED = "rewriteBatchedStatements=true";
+
+    @Test
+    void registerThousandGuestsWellUnderASecond() throws Exception {
+        int size = Integer.getInteger("loadtest.batch.size", 1000);
+        int warmupRounds = Integer.getInteger("loadtest.batch.warmup-rounds", 2);
+        int rounds = Integer.getInteger("loadtest.batch.rounds", 5);
+        long maxMillis = Long.getLong("loadtest.batch.max-millis", 1000);
+
+        Map<String, Map<String, Object>> databases = new LinkedHashMap<>();
+        databases.put("h2", Map.of());
+        String mysqlUrl = System.getProperty("loadtest.mysql.url");
+        if (mysqlUrl != null) {
+            databases.put("mysql", mysql(mysqlUrl));
+        }
+
+        List<String> lines = new ArrayList<>();
+        try (StubDownstreams stubs = StubDownstreams.start();
+             HttpClient client = HttpClient.newHttpClient()) {
+            for (Map.Entry<String, Map<String, Object>> database : databases.entrySet()) {
+                try (ConfigurableApplicationContext app = LoadTestApplication.start(stubs, database.getValue())) {
+                    String baseUrl = LoadTestApplication.baseUrl(app);
+                    String run = Long.toString(System.currentTimeMillis(), 36);
+                    List<Long> millis = new ArrayList<>();
+                    for (int round = 0; round < warmupRounds + rounds; round++) {
+                        // 회차마다 새 약속, 새 사용자 (중복 없이 모두 INSERT)
+                        String prefix = "batch-" + run + "-" + round;
+                        List<String> userIds = IntStream.range(0, size).mapToObj(i -> "user-" + prefix + "-" + i).toList();
+
+                        long started = System.nanoTime();
+                        HttpResponse<String> response = client.send(
+                                GuestRequests.createGuests(baseUrl, "appo-" + prefix, userIds),
+                                HttpResponse.BodyHandlers.ofString());
+                        long elapsed = (System.nanoTime() - started) / 1_000_000;
+
+                        assertThat(response.statusCode()).as(response.body()).isEqualTo(200);
+                        assertThat(response.body()).contains("\"created\":" + size);
+                        if (round >= warmupRounds) {
+                            millis.add(elapsed);
+                        }
+                    }
+                    List<Long> sorted = millis.stream().sorted().toList();
+                    long median = sorted.get(sorted.size() / 2);
+                    lines.add(String.format("%-6s user_ids=%d rounds=%d median=%dms min=%dms max=%dms",
+                            database.getKey(), size, rounds, median, sorted.get(0), sorted.get(sorted.size() - 1)));
+                    assertThat(median).as(database.getKey() + " median batch registration (ms)").isLessThan(maxMillis);
+                }
+            }
+        } finally {
+            lines.forEach(System.out::println);
+        }
+    }
+
+    private static Map<String, Object> mysql(String url) {
+        String batchedUrl = url.contains(REWRITE_BATCHED) ? url : url + (url.contains("?") ? "&" : "?") + REWRITE_BATCHED;
+        return Map.of(
+                "spring.datasource.url", batchedUrl,
+                "spring.datasource.username", System.getProperty("loadtest.mysql.username", "root"),
+                "spring.datasource.password", System.getProperty("loadtest.mysql.password", "password"),
+                "spring.datasource.driver-class-name", "com.mysql.cj.jdbc.Driver",
+                "spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.MySQLDialect");
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.guest.loadtest;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 엔드포인트 혼합 부하에서 다운스트림이 느려지거나 실패할 때의 처리량/지연 (엔드포인트별 p50/p90/p99)
+ * 단계마다 애플리케이션을 새로 띄워 circuit breaker/캐시 상태가 이어지지 않도록 함
+ * - baseline: 기본 지연(loadtest.downstream-latency-ms)
+ * - appointment-slow / user-slow: 한 다운스트림만 loadtest.slow-latency-ms 지연
+ * - appointment-errors / user-errors: 한 다운스트림만 loadtest.error-rate 비율로 503
+ *
+ * ./gradlew loadTest --tests '*DownstreamDegradationLoadTest' -Dloadtest.slow-latency-ms=800 -Dloadtest.error-rate=0.3
+ * Appointment 캐시가 지연을 가리므로 캐시 영향을 줄이려면 -Dloadtest.app.services.appointment.cache.ttl=1s
+ */
+class DownstreamDegradationLoadTest {
+
+    private static final int APPOINTMENTS = 200;
+    private static final int GUESTS_PER_APPOINTMENT = 50;
+    private static final int DELETABLE_PER_APPOINTMENT = 500;
+
+    private record Phase(String name, Consumer<StubDownstreams> fault) {
+    }
+
+    @Test
+    void compareDownstreamFaults() throws Exception {
+        LoadSettings settings = LoadSettings.fromSystemProperties();
+        LoadGenerator generator = new LoadGenerator();
+        List<LoadResult> results = new ArrayList<>();
+
+        List<Phase> phases = List.of(
+                new Phase("baseline", stubs -> { }),
+                new Phase("appointment-slow", stubs -> stubs.setAppointmentLatency(LoadSettings.slowLatency())),
+                new Phase("user-slow", stubs -> stubs.setUserLatency(LoadSettings.slowLatency())),
+                new Phase("appointment-errors", stubs -> stubs.setAppointmentErrorRate(LoadSettings.errorRate())),
+                new Phase("user-errors", stubs -> stubs.setUserErrorRate(LoadSettings.errorRate())));
+
+        try (StubDownstreams stubs = StubDownstreams.start()) {
+            for (Phase phase : phases) {
+                stubs.reset();
+                stubs.setLatency(settings.downstreamLatency());
+                try (ConfigurableApplicationContext app = LoadTestApplication.start(stubs, Map.of())) {
+                    GuestTraffic traffic = GuestTraffic.seed(app, APPOINTMENTS, GUESTS_PER_APPOINTMENT,
+                            DELETABLE_PER_APPOINTMENT);
+                    RequestMix mix = traffic.mix();
+                    phase.fault().accept(stubs);
+                    System.out.println(phase.name() + " mix: " + mix.describe());
+                    results.addAll(generator.runMix(phase.name(), settings, mix));
+                }
+            }
+        }
+
+        LoadResult.print(results);
+    }
+}
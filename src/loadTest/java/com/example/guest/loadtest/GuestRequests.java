@@ -0,0 +1,78 @@
+package com.example.guest.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 부하 테스트에서 사용하는 Guest API 요청
+ */
+public final class GuestRequests {
+
+    private GuestRequests() {
+    }
+
+    public static HttpRequest createGuest(String baseUrl, String appointmentId, String userId) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/appointments/" + appointmentId + "/guests"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"user_id\":\"" + userId + "\"}"))
+                .build();
+    }
+
+    public static HttpRequest createGuests(String baseUrl, String appointmentId, List<String> userIds) {
+        String body = userIds.stream().map(userId -> "\"" + userId + "\"")
+                .collect(Collectors.joining(",", "{\"user_ids\":[", "]}"));
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/appointments/" + appointmentId + "/guests/batch"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    public static HttpRequest appointment(String baseUrl, String appointmentId) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/appointments/" + appointmentId))
+                .GET()
+                .build();
+    }
+
+    public static HttpRequest guests(String baseUrl, String appointmentId) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/appointments/" + appointmentId + "/guests"))
+                .GET()
+                .build();
+    }
+
+    public static HttpRequest guest(String baseUrl, String appointmentId, String guestId) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/appointments/" + appointmentId + "/guests/" + guestId))
+                .GET()
+                .build();
+    }
+
+    public static HttpRequest guestStatus(String baseUrl, String appointmentId, String guestId) {
+        return HttpRequest.newBuilder(URI.create(
+                        baseUrl + "/appointments/" + appointmentId + "/guests/" + guestId + "/guest_status"))
+                .GET()
+                .build();
+    }
+
+    public static HttpRequest updateGuestStatus(String baseUrl, String appointmentId, String guestId,
+                                                String userId, String guestStatus) {
+        return HttpRequest.newBuilder(URI.create(
+                        baseUrl + "/appointments/" + appointmentId + "/guests/" + guestId + "/guest_status"))
+                .header("Content-Type", "application/json")
+                .header("X-User-ID", userId)
+                .method("PATCH", HttpRequest.BodyPublishers.ofString("{\"guest_status\":\"" + guestStatus + "\"}"))
+                .build();
+    }
+
+    public static HttpRequest deleteGuest(String baseUrl, String appointmentId, String guestId) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/appointments/" + appointmentId + "/guests/" + guestId))
+                .DELETE()
+                .build();
+    }
+
+    public static HttpRequest guestsByUser(String baseUrl, String userId) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/appointments/guests/user/" + userId))
+                .GET()
+                .build();
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.guest.loadtest;
+
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.http.HttpRequest;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * guest-service-api.http의 엔드포인트를 섞은 기본 요청 구성과 테스트 데이터
+ * - 약속 lt-appo-{a}마다 참가자 lt-guest-{a}-{u} (user_id: lt-user-{u})를 DB에 직접 저장
+ * - 삭제 요청은 별도로 저장한 lt-del-{a}-{n} 참가자를 순서대로 사용 (다 쓰면 success=false 응답)
+ * - 상태 변경은 stub의 호스트(host-{appointmentId})로 요청
+ */
+public final class GuestTraffic {
+
+    private static final String[] STATUSES = {"coming", "late", "absent"};
+
+    private final String baseUrl;
+    private final int appointments;
+    private final int guestsPerAppointment;
+    private final AtomicLong newUserSequence = new AtomicLong();
+    private final AtomicLong deleteSequence = new AtomicLong();
+
+    private GuestTraffic(String baseUrl, int appointments, int guestsPerAppointment) {
+        this.baseUrl = baseUrl;
+        this.appointments = appointments;
+        this.guestsPerAppointment = guestsPerAppointment;
+    }
+
+    public static GuestTraffic seed(ConfigurableApplicationContext app, int appointments, int guestsPerAppointment,
+                                    int deletablePerAppointment) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>();
+        for (int a = 0; a < appointments; a++) {
+            for (int u = 0; u < guestsPerAppointment; u++) {
+                rows.add(new Object[] {guestId(a, u), appointmentId(a), "lt-user-" + u, STATUSES[u % STATUSES.length], now, now});
+            }
+            for (int n = 0; n < deletablePerAppointment; n++) {
+                rows.add(new Object[] {"lt-del-" + a + "-" + n, appointmentId(a), "lt-del-user-" + n, "coming", now, now});
+            }
+        }
+        app.getBean(JdbcTemplate.class).batchUpdate(
+                "INSERT INTO guests (guest_id, appointment_id, user_id, guest_status, created_at, updated_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?)", rows);
+        return new GuestTraffic(LoadTestApplication.baseUrl(app), appointments, guestsPerAppointment);
+    }
+
+    /**
+     * 기본 구성 (조회 위주, -Dloadtest.mix로 변경)
+     */
+    public RequestMix mix() {
+        return new RequestMix()
+                .add("appointment", 5, () -> GuestRequests.appointment(baseUrl, appointmentId(randomAppointment())))
+                .add("guests", 35, () -> GuestRequests.guests(baseUrl, appointmentId(randomAppointment())))
+                .add("status", 20, () -> {
+                    int a = randomAppointment();
+                    return GuestRequests.guestStatus(baseUrl, appointmentId(a), guestId(a, randomGuest()));
+                })
+                .add("guest", 10, () -> {
+                    int a = randomAppointment();
+                    return GuestRequests.guest(baseUrl, appointmentId(a), guestId(a, randomGuest()));
+                })
+                .add("user-guests", 10, () -> GuestRequests.guestsByUser(baseUrl, "lt-user-" + randomGuest()))
+                .add("create", 10, () -> GuestRequests.createGuest(baseUrl, appointmentId(randomAppointment()),
+                        "lt-new-user-" + newUserSequence.incrementAndGet()))
+                .add("update", 8, this::updateRequest)
+                .add("delete", 2, this::deleteRequest);
+    }
+
+    private HttpRequest updateRequest() {
+        int a = randomAppointment();
+        String appointmentId = appointmentId(a);
+        return GuestRequests.updateGuestStatus(baseUrl, appointmentId, guestId(a, randomGuest()),
+                "host-" + appointmentId, STATUSES[ThreadLocalRandom.current().nextInt(STATUSES.length)]);
+    }
+
+    private HttpRequest deleteRequest() {
+        long n = deleteSequence.getAndIncrement();
+        int a = (int) (n % appointments);
+        return GuestRequests.deleteGuest(baseUrl, appointmentId(a), "lt-del-" + a + "-" + n / appointments);
+    }
+
+    private int randomAppointment() {
+        return ThreadLocalRandom.current().nextInt(appointments);
+    }
+
+    private int randomGuest() {
+        return ThreadLocalRandom.current().nextInt(guestsPerAppointment);
+    }
+
+    private static String appointmentId(int index) {
+        return "lt-appo-" + index;
+    }
+
+    private static String guestId(int appointment, int guest) {
+        return "lt-guest-" + appointment + "-" + guest;
+    }
+}
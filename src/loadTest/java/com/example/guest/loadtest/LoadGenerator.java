@@ -0,0 +1,152 @@
+package com.example.guest.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * 동시성 고정(closed-loop) 부하 생성기
+ * 비동기 HttpClient + Semaphore로 in-flight 요청 수를 concurrency로 유지하며 지연 시간을 기록
+ */
+public final class LoadGenerator {
+
+    /**
+     * 애플리케이션 요청 처리 플랫폼 스레드
+     * (Tomcat worker, Reactor Netty event loop, JPA scheduler, virtual thread carrier 등)
+     * virtual thread 자체는 Thread.getAllStackTraces()에 포함되지 않으므로 carrier 수로 집계됨
+     */
+    private static final Pattern SERVER_THREADS = Pattern.compile(
+            "^(http-nio-.*|reactor-http-.*|jpa-.*|boundedElastic-.*|parallel-.*|ForkJoinPool-\\d+-worker-.*)$");
+
+    private static final int MAX_SAMPLES = 5_000_000;
+    private static final int MAX_SAMPLES_PER_LABEL = 1_000_000;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    public LoadResult run(String scenario, LoadSettings settings, Supplier<HttpRequest> requests)
+            throws InterruptedException {
+        Supplier<RequestMix.Sample> samples = () -> new RequestMix.Sample(scenario, requests.get());
+        measure(scenario + " (warmup)", settings.concurrency(), settings.warmup(), samples);
+        return measure(scenario, settings.concurrency(), settings.duration(), samples).get(0);
+    }
+
+    /**
+     * 여러 엔드포인트를 가중치대로 섞어 호출
+     * @return 전체 결과와 엔드포인트별 결과 ("{scenario} {label}")
+     */
+    public List<LoadResult> runMix(String scenario, LoadSettings settings, RequestMix mix)
+            throws InterruptedException {
+        measure(scenario + " (warmup)", settings.concurrency(), settings.warmup(), mix::next);
+        return measure(scenario, settings.concurrency(), settings.duration(), mix::next);
+    }
+
+    private List<LoadResult> measure(String scenario, int concurrency, Duration duration,
+                                     Supplier<RequestMix.Sample> samples) throws InterruptedException {
+        Recorder total = new Recorder(MAX_SAMPLES);
+        Map<String, Recorder> byLabel = new ConcurrentHashMap<>();
+        AtomicInteger peakThreads = new AtomicInteger();
+        Semaphore inFlight = new Semaphore(concurrency);
+
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(() -> peakThreads.accumulateAndGet(countServerThreads(), Math::max),
+                0, 100, TimeUnit.MILLISECONDS);
+
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        try {
+            while (System.nanoTime() < deadline) {
+                if (!inFlight.tryAcquire(100, TimeUnit.MILLISECONDS)) {
+                    continue;
+                }
+                RequestMix.Sample sample = samples.get();
+                Recorder labelRecorder = byLabel.computeIfAbsent(sample.label(), label -> new Recorder(MAX_SAMPLES_PER_LABEL));
+                long sentAt = System.nanoTime();
+                httpClient.sendAsync(sample.request(), HttpResponse.BodyHandlers.discarding())
+                        .whenComplete((response, failure) -> {
+                            long latency = System.nanoTime() - sentAt;
+                            boolean error = failure != null || response.statusCode() >= 300;
+                            total.record(latency, error);
+                            labelRecorder.record(latency, error);
+                            inFlight.release();
+                        });
+            }
+            // 진행 중인 요청 완료 대기
+            inFlight.tryAcquire(concurrency, 30, TimeUnit.SECONDS);
+        } finally {
+            sampler.shutdownNow();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        List<LoadResult> results = new ArrayList<>();
+        results.add(total.result(scenario, seconds, peakThreads.get()));
+        if (byLabel.size() > 1 || !byLabel.containsKey(scenario)) {
+            new TreeMap<>(byLabel).forEach((label, recorder) ->
+                    results.add(recorder.result(scenario + " " + label, seconds, peakThreads.get())));
+        }
+        return results;
+    }
+
+    /**
+     * 지연 시간 표본과 오류 수 (표본은 최대 capacity개까지 보관)
+     */
+    private static final class Recorder {
+
+        private final long[] latencies;
+        private final AtomicInteger recorded = new AtomicInteger();
+        private final AtomicLong errors = new AtomicLong();
+
+        Recorder(int capacity) {
+            this.latencies = new long[capacity];
+        }
+
+        void record(long latencyNanos, boolean error) {
+            int index = recorded.getAndIncrement();
+            if (index < latencies.length) {
+                latencies[index] = latencyNanos;
+            }
+            if (error) {
+                errors.incrementAndGet();
+            }
+        }
+
+        LoadResult result(String scenario, double seconds, int peakThreads) {
+            int count = Math.min(recorded.get(), latencies.length);
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            return new LoadResult(scenario, recorded.get(), errors.get(), seconds,
+                    percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99),
+                    percentile(sorted, 1.0), peakThreads);
+        }
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+    }
+
+    private static int countServerThreads() {
+        return (int) Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> SERVER_THREADS.matcher(thread.getName()).matches())
+                .count();
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.guest.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 한 시나리오의 측정 결과
+ */
+public record LoadResult(String scenario, long requests, long errors, double seconds,
+                         double p50Millis, double p90Millis, double p99Millis, double maxMillis,
+                         int peakServerThreads) {
+
+    public double throughput() {
+        return requests / seconds;
+    }
+
+    public static void print(List<LoadResult> results) {
+        System.out.println();
+        System.out.printf("%-44s %10s %8s %10s %9s %9s %9s %9s %8s%n",
+                "scenario", "requests", "errors", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)", "threads");
+        for (LoadResult r : results) {
+            System.out.printf("%-44s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f %8d%n",
+                    r.scenario(), r.requests(), r.errors(), r.throughput(),
+                    r.p50Millis(), r.p90Millis(), r.p99Millis(), r.maxMillis(), r.peakServerThreads());
+        }
+        System.out.println();
+    }
+
+    /**
+     * 결과를 README에 옮겨 붙일 수 있는 markdown 표로 저장 (측정 환경과 설정을 함께 기록)
+     */
+    public static Path writeMarkdown(String name, LoadSettings settings, List<LoadResult> results) throws IOException {
+        Path file = Path.of(System.getProperty("loadtest.report-dir", "build/loadtest")).resolve(name + ".md");
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("측정 환경: JDK %s, %s %s, CPU %d코어 / 설정: 동시 요청 %d, 워밍업 %ds, 측정 %ds, 다운스트림 지연 %dms",
+                System.getProperty("java.version"), System.getProperty("os.name"), System.getProperty("os.arch"),
+                Runtime.getRuntime().availableProcessors(), settings.concurrency(), settings.warmup().toSeconds(),
+                settings.duration().toSeconds(), settings.downstreamLatency().toMillis()));
+        lines.add("");
+        lines.add("| scenario | requests | errors | req/s | p50(ms) | p99(ms) |");
+        lines.add("|----------|---------:|-------:|------:|--------:|--------:|");
+        for (LoadResult r : results) {
+            lines.add(String.format("| %s | %d | %d | %.1f | %.2f | %.2f |",
+                    r.scenario(), r.requests(), r.errors(), r.throughput(), r.p50Millis(), r.p99Millis()));
+        }
+        Files.createDirectories(file.getParent());
+        Files.write(file, lines);
+        return file;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.guest.loadtest;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 부하 테스트 설정 (-Dloadtest.* 시스템 프로퍼티로 변경)
+ */
+public record LoadSettings(int concurrency, Duration warmup, Duration duration, Duration downstreamLatency) {
+
+    public static LoadSettings fromSystemProperties() {
+        return new LoadSettings(
+                Integer.getInteger("loadtest.concurrency", 256),
+                Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 5)),
+                Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", 20)),
+                Duration.ofMillis(Long.getLong("loadtest.downstream-latency-ms", 50)));
+    }
+
+    /**
+     * 동시성 단계별 측정 시 사용할 단계 (-Dloadtest.levels=100,200,400)
+     */
+    public static List<Integer> concurrencyLevels() {
+        return Arrays.stream(System.getProperty("loadtest.levels", "100,200,400,800").split(","))
+                .map(String::trim)
+                .map(Integer::valueOf)
+                .toList();
+    }
+
+    /**
+     * 다운스트림 지연 주입 단계의 응답 지연 (-Dloadtest.slow-latency-ms, 기본 500ms)
+     */
+    public static Duration slowLatency() {
+        return Duration.ofMillis(Long.getLong("loadtest.slow-latency-ms", 500));
+    }
+
+    /**
+     * 다운스트림 오류 주입 단계의 503 비율 (-Dloadtest.error-rate, 기본 0.2)
+     */
+    public static double errorRate() {
+        return Double.parseDouble(System.getProperty("loadtest.error-rate", "0.2"));
+    }
+
+    public LoadSettings withConcurrency(int concurrency) {
+        return new LoadSettings(concurrency, warmup, duration, downstreamLatency);
+    }
+}
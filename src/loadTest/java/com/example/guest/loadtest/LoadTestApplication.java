@@ -0,0 +1,57 @@
+package com.example.guest.loadtest;
+
+import com.example.guest.GuestServiceApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 부하 테스트 대상 애플리케이션 기동 (H2 인메모리 DB + stub 다운스트림)
+ */
+public final class LoadTestApplication {
+
+    private static final String APP_PROPERTY_PREFIX = "loadtest.app.";
+
+    private LoadTestApplication() {
+    }
+
+    public static ConfigurableApplicationContext start(StubDownstreams stubs, Map<String, Object> overrides,
+                                                       String... profiles) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", 0);
+        properties.put("spring.datasource.url",
+                "jdbc:h2:mem:loadtest-" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.datasource.hikari.maximum-pool-size", 20);
+        properties.put("spring.jpa.hibernate.ddl-auto", "validate");
+        properties.put("spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+        properties.put("spring.jpa.show-sql", false);
+        properties.put("services.appointment.url", stubs.appointmentUrl());
+        properties.put("services.appointment.api-key", "loadtest");
+        properties.put("services.user.url", stubs.userUrl());
+        properties.put("services.user.api-key", "loadtest");
+        properties.put("logging.level.com.example.guest", "WARN");
+        properties.putAll(overrides);
+        // -Dloadtest.app.<property>=value 로 애플리케이션 설정 변경 (예: -Dloadtest.app.services.appointment.cache.ttl=1s)
+        System.getProperties().forEach((key, value) -> {
+            String name = key.toString();
+            if (name.startsWith(APP_PROPERTY_PREFIX)) {
+                properties.put(name.substring(APP_PROPERTY_PREFIX.length()), value);
+            }
+        });
+
+        return new SpringApplicationBuilder(GuestServiceApplication.class)
+                .profiles(profiles)
+                .properties(properties)
+                .run();
+    }
+
+    public static String baseUrl(ConfigurableApplicationContext context) {
+        return "http://127.0.0.1:" + context.getEnvironment().getProperty("local.server.port");
+    }
+}
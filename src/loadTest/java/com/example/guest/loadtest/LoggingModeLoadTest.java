@@ -0,0 +1,57 @@
+package com.example.guest.loadtest;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로깅 모드별 처리량/지연 비교
+ * - verbose: dev 프로파일과 같은 수준 (com.example.guest/org.springframework.web DEBUG, show-sql, 동기 콘솔 패턴 로그)
+ * - prod-logging: 요청별 로그 DEBUG 차단, AsyncAppender + JSON 로그, 요청당 access log 1줄
+ *
+ * ./gradlew loadTest --tests '*LoggingModeLoadTest' -Dloadtest.concurrency=256 > build/logging-mode.log
+ * (콘솔 출력량 자체가 측정 대상이므로 결과 표는 리다이렉트한 파일 끝이나 build/loadtest/logging-mode.md에서 확인)
+ */
+class LoggingModeLoadTest {
+
+    private static final Map<String, Object> VERBOSE = Map.of(
+            "logging.level.com.example.guest", "DEBUG",
+            "logging.level.org.springframework.web", "DEBUG",
+            "spring.jpa.show-sql", true);
+
+    private static final Map<String, Object> PROD_LOGGING = Map.of(
+            "logging.level.com.example.guest", "INFO");
+
+    @Test
+    void compareVerboseAndProdLogging() throws Exception {
+        LoadSettings settings = LoadSettings.fromSystemProperties();
+        LoadGenerator generator = new LoadGenerator();
+        List<LoadResult> results = new ArrayList<>();
+
+        try (StubDownstreams stubs = StubDownstreams.start()) {
+            stubs.setLatency(settings.downstreamLatency());
+            for (String mode : List.of("verbose", "prod-logging")) {
+                Map<String, Object> overrides = "verbose".equals(mode) ? VERBOSE : PROD_LOGGING;
+                String[] profiles = "verbose".equals(mode) ? new String[0] : new String[] {"prod-logging"};
+                try (ConfigurableApplicationContext app = LoadTestApplication.start(stubs, overrides, profiles)) {
+                    String baseUrl = LoadTestApplication.baseUrl(app);
+                    AtomicLong userSequence = new AtomicLong();
+
+                    results.add(generator.run(mode + " POST /guests", settings, () -> GuestRequests
+                            .createGuest(baseUrl, "appo-1", "user-" + userSequence.incrementAndGet())));
+
+                    results.add(generator.run(mode + " GET /guests/user/{id}", settings, () -> GuestRequests
+                            .guestsByUser(baseUrl, "user-" + ThreadLocalRandom.current().nextLong(1, userSequence.get() + 2))));
+                }
+            }
+        }
+
+        LoadResult.print(results);
+        System.out.println("결과 표: " + LoadResult.writeMarkdown("logging-mode", settings, results).toAbsolutePath());
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.guest.loadtest;
+
+import java.net.http.HttpRequest;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 가중치에 따라 엔드포인트를 섞어 요청을 생성
+ * -Dloadtest.mix=list:40,status:20 처럼 label별 가중치를 덮어쓸 수 있음 (0이면 제외)
+ */
+public final class RequestMix {
+
+    /**
+     * 생성된 요청과 결과 집계용 label
+     */
+    public record Sample(String label, HttpRequest request) {
+    }
+
+    private record Entry(String label, int weight, Supplier<HttpRequest> requests) {
+    }
+
+    private final List<Entry> entries = new ArrayList<>();
+    private int totalWeight;
+
+    public RequestMix add(String label, int weight, Supplier<HttpRequest> requests) {
+        int effectiveWeight = overrides().getOrDefault(label, weight);
+        if (effectiveWeight > 0) {
+            entries.add(new Entry(label, effectiveWeight, requests));
+            totalWeight += effectiveWeight;
+        }
+        return this;
+    }
+
+    public Sample next() {
+        int pick = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Entry entry : entries) {
+            pick -= entry.weight();
+            if (pick < 0) {
+                return new Sample(entry.label(), entry.requests().get());
+            }
+        }
+        throw new IllegalStateException("빈 요청 구성");
+    }
+
+    /**
+     * label:weight 목록 (결과 출력용)
+     */
+    public String describe() {
+        StringBuilder description = new StringBuilder();
+        for (Entry entry : entries) {
+            if (description.length() > 0) {
+                description.append(", ");
+            }
+            description.append(entry.label()).append(':').append(entry.weight());
+        }
+        return description.toString();
+    }
+
+    private static Map<String, Integer> overrides() {
+        Map<String, Integer> overrides = new LinkedHashMap<>();
+        String mix = System.getProperty("loadtest.mix", "");
+        for (String item : mix.split(",")) {
+            String[] pair = item.trim().split(":");
+            if (pair.length == 2) {
+                overrides.put(pair[0].trim(), Integer.valueOf(pair[1].trim()));
+            }
+        }
+        return overrides;
+    }
+}
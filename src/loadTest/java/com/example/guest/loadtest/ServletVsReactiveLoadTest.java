@@ -0,0 +1,44 @@
+package com.example.guest.loadtest;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * servlet(Tomcat + block) 모드와 reactive(WebFlux) 모드의 처리량/지연/스레드 수 비교
+ *
+ * ./gradlew loadTest --tests '*ServletVsReactiveLoadTest' -Dloadtest.concurrency=1000
+ */
+class ServletVsReactiveLoadTest {
+
+    @Test
+    void compareServletAndReactiveModes() throws Exception {
+        LoadSettings settings = LoadSettings.fromSystemProperties();
+        LoadGenerator generator = new LoadGenerator();
+        List<LoadResult> results = new ArrayList<>();
+
+        try (StubDownstreams stubs = StubDownstreams.start()) {
+            stubs.setLatency(settings.downstreamLatency());
+            for (String mode : List.of("servlet", "reactive")) {
+                String[] profiles = "reactive".equals(mode) ? new String[] {"reactive"} : new String[0];
+                try (ConfigurableApplicationContext app = LoadTestApplication.start(stubs, Map.of(), profiles)) {
+                    String baseUrl = LoadTestApplication.baseUrl(app);
+                    AtomicLong userSequence = new AtomicLong();
+
+                    results.add(generator.run(mode + " POST /guests", settings, () -> GuestRequests
+                            .createGuest(baseUrl, "appo-1", "user-" + userSequence.incrementAndGet())));
+
+                    results.add(generator.run(mode + " GET /guests/user/{id}", settings, () -> GuestRequests
+                            .guestsByUser(baseUrl, "user-" + ThreadLocalRandom.current().nextLong(1, userSequence.get() + 2))));
+                }
+            }
+        }
+
+        LoadResult.print(results);
+    }
+}
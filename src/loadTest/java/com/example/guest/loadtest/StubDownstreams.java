@@ -0,0 +1,191 @@
+package com.example.guest.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 부하 테스트용 Appointment / User Service stub (JDK HttpServer, 프로세스 내 실행)
+ * - appointmentId/userId가 "missing"으로 시작하면 404
+ * - appointment의 hostId는 "host-{appointmentId}"
+ * - 다운스트림별 응답 지연(±20%)과 오류 주입(지정 비율로 503 응답)을 실행 중에 변경 가능
+ */
+public class StubDownstreams implements AutoCloseable {
+
+    private final HttpServer appointmentServer;
+    private final HttpServer userServer;
+    private final ExecutorService executor;
+
+    private final AtomicLong appointmentRequests = new AtomicLong();
+    private final AtomicLong userRequests = new AtomicLong();
+
+    private volatile Duration appointmentLatency = Duration.ZERO;
+    private volatile Duration userLatency = Duration.ZERO;
+    private volatile double appointmentErrorRate;
+    private volatile double userErrorRate;
+
+    private StubDownstreams() throws IOException {
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setName("stub-downstream-" + thread.getId());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.appointmentServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        this.appointmentServer.createContext("/appointments", this::handleAppointment);
+        this.appointmentServer.setExecutor(executor);
+        this.userServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        this.userServer.createContext("/users", this::handleUser);
+        this.userServer.setExecutor(executor);
+    }
+
+    public static StubDownstreams start() throws IOException {
+        StubDownstreams stubs = new StubDownstreams();
+        stubs.appointmentServer.start();
+        stubs.userServer.start();
+        return stubs;
+    }
+
+    public String appointmentUrl() {
+        return "http://127.0.0.1:" + appointmentServer.getAddress().getPort();
+    }
+
+    public String userUrl() {
+        return "http://127.0.0.1:" + userServer.getAddress().getPort();
+    }
+
+    /**
+     * 두 다운스트림 모두의 응답 지연
+     */
+    public void setLatency(Duration latency) {
+        this.appointmentLatency = latency;
+        this.userLatency = latency;
+    }
+
+    public void setAppointmentLatency(Duration latency) {
+        this.appointmentLatency = latency;
+    }
+
+    public void setUserLatency(Duration latency) {
+        this.userLatency = latency;
+    }
+
+    /**
+     * 두 다운스트림 모두의 오류 비율 (0.0 ~ 1.0, 해당 비율의 요청에 503 응답)
+     */
+    public void setErrorRate(double errorRate) {
+        this.appointmentErrorRate = errorRate;
+        this.userErrorRate = errorRate;
+    }
+
+    public void setAppointmentErrorRate(double errorRate) {
+        this.appointmentErrorRate = errorRate;
+    }
+
+    public void setUserErrorRate(double errorRate) {
+        this.userErrorRate = errorRate;
+    }
+
+    /**
+     * 지연 0, 오류 없음으로 초기화
+     */
+    public void reset() {
+        setLatency(Duration.ZERO);
+        setErrorRate(0);
+    }
+
+    public long appointmentRequests() {
+        return appointmentRequests.get();
+    }
+
+    public long userRequests() {
+        return userRequests.get();
+    }
+
+    private void handleAppointment(HttpExchange exchange) throws IOException {
+        appointmentRequests.incrementAndGet();
+        simulateLatency(appointmentLatency);
+        if (injectError(exchange, appointmentErrorRate)) {
+            return;
+        }
+        String path = exchange.getRequestURI().getPath();
+        String[] segments = path.split("/");
+        if (segments.length == 2) {
+            respond(exchange, 200, "[" + appointmentJson("appo-1") + "]");
+        } else if (segments.length == 4 && "host".equals(segments[2])) {
+            respond(exchange, 200, "[]");
+        } else if (segments[2].startsWith("missing")) {
+            respond(exchange, 404, "{\"message\":\"not found\"}");
+        } else {
+            respond(exchange, 200, appointmentJson(segments[2]));
+        }
+    }
+
+    private void handleUser(HttpExchange exchange) throws IOException {
+        userRequests.incrementAndGet();
+        simulateLatency(userLatency);
+        if (injectError(exchange, userErrorRate)) {
+            return;
+        }
+        String[] segments = exchange.getRequestURI().getPath().split("/");
+        if (segments.length == 2) {
+            respond(exchange, 200, "{\"success\":true,\"message\":\"ok\",\"data\":[]}");
+        } else if (segments[2].startsWith("missing")) {
+            respond(exchange, 404, "{\"success\":false,\"message\":\"not found\"}");
+        } else {
+            respond(exchange, 200, "{\"success\":true,\"message\":\"ok\",\"data\":{\"userId\":\""
+                    + segments[2] + "\",\"username\":\"" + segments[2] + "\",\"isAdmin\":false}}");
+        }
+    }
+
+    private static String appointmentJson(String appointmentId) {
+        return "{\"appointmentId\":\"" + appointmentId + "\",\"hostId\":\"host-" + appointmentId
+                + "\",\"title\":\"load test\",\"appointmentStatus\":\"scheduled\"}";
+    }
+
+    private static boolean injectError(HttpExchange exchange, double errorRate) throws IOException {
+        if (errorRate <= 0 || ThreadLocalRandom.current().nextDouble() >= errorRate) {
+            return false;
+        }
+        respond(exchange, 503, "{\"success\":false,\"message\":\"injected failure\"}");
+        return true;
+    }
+
+    private static void simulateLatency(Duration latency) {
+        long millis = latency.toMillis();
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            // ±20% 흔들림
+            Thread.sleep(ThreadLocalRandom.current().nextLong(millis * 8 / 10, millis * 12 / 10 + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @Override
+    public void close() {
+        appointmentServer.stop(0);
+        userServer.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.guest.loadtest;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * platform thread(Tomcat 기본 200 스레드)와 virtual thread 모드의 동시 처리 한도 비교
+ * 동시성 단계를 올리며 처리량이 포화되는 지점을 확인
+ *
+ * ./gradlew loadTest --tests '*VirtualThreadLoadTest' -Dloadtest.levels=100,200,400,800,1600 -Dloadtest.downstream-latency-ms=200
+ */
+class VirtualThreadLoadTest {
+
+    @Test
+    void compareConcurrencyCeiling() throws Exception {
+        LoadSettings settings = LoadSettings.fromSystemProperties();
+        LoadGenerator generator = new LoadGenerator();
+        List<LoadResult> results = new ArrayList<>();
+
+        try (StubDownstreams stubs = StubDownstreams.start()) {
+            stubs.setLatency(settings.downstreamLatency());
+            for (boolean virtual : List.of(false, true)) {
+                String mode = virtual ? "virtual" : "platform";
+                try (ConfigurableApplicationContext app = LoadTestApplication.start(stubs,
+                        Map.of("spring.threads.virtual.enabled", virtual))) {
+                    String baseUrl = LoadTestApplication.baseUrl(app);
+                    AtomicLong userSequence = new AtomicLong();
+
+                    for (int level : LoadSettings.concurrencyLevels()) {
+                        results.add(generator.run(mode + " c=" + level + " POST /guests", settings.withConcurrency(level),
+                                () -> GuestRequests.createGuest(baseUrl, "appo-1", mode + "-user-" + userSequence.incrementAndGet())));
+                    }
+                }
+            }
+        }
+
+        LoadResult.print(results);
+    }
+}
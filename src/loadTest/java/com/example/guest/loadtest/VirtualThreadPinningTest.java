@@ -0,0 +1,72 @@
+package com.example.guest.loadtest;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * virtual thread 모드에서 요청 경로가 carrier 스레드를 pinning 하지 않는지 JFR로 검사
+ */
+class VirtualThreadPinningTest {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    @Test
+    void requestPathDoesNotPinCarrierThreads() throws Exception {
+        Path dump = Files.createTempFile("virtual-thread-pinning", ".jfr");
+
+        try (StubDownstreams stubs = StubDownstreams.start();
+             Recording recording = new Recording()) {
+            stubs.setLatency(Duration.ofMillis(20));
+            recording.enable(PINNED_EVENT).withThreshold(Duration.ZERO).withStackTrace();
+
+            try (ConfigurableApplicationContext app = LoadTestApplication.start(stubs,
+                    Map.of("spring.threads.virtual.enabled", true))) {
+                String baseUrl = LoadTestApplication.baseUrl(app);
+                AtomicLong userSequence = new AtomicLong();
+
+                recording.start();
+                new LoadGenerator().run("virtual pinning probe",
+                        new LoadSettings(200, Duration.ofSeconds(1), Duration.ofSeconds(5), Duration.ofMillis(20)),
+                        () -> userSequence.incrementAndGet() % 2 == 0
+                                ? GuestRequests.createGuest(baseUrl, "appo-1", "user-" + userSequence.get())
+                                : GuestRequests.guestsByUser(baseUrl, "user-" + (userSequence.get() - 1)));
+                recording.stop();
+                recording.dump(dump);
+            }
+        }
+
+        // 임베디드 H2는 내부적으로 synchronized를 사용하므로 제외 (운영 MySQL 드라이버 경로와 무관)
+        List<RecordedEvent> pinned = RecordingFile.readAllEvents(dump).stream()
+                .filter(event -> PINNED_EVENT.equals(event.getEventType().getName()))
+                .filter(event -> !hasFrameIn(event, "org.h2."))
+                .toList();
+        pinned.forEach(System.out::println);
+
+        assertThat(pinned).as("virtual thread pinning on the request path").isEmpty();
+    }
+
+    private static boolean hasFrameIn(RecordedEvent event, String packagePrefix) {
+        if (event.getStackTrace() == null) {
+            return false;
+        }
+        for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+            if (frame.getMethod() != null && frame.getMethod().getType().getName().startsWith(packagePrefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,48 +1,52 @@
 package com.example.guest.client;
 
 import com.example.guest.dto.AppointmentResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class AppointmentServiceClient {
     
-    private final WebClient.Builder webClientBuilder;
+    private final WebClient webClient;
     
-    @Value("${services.appointment.url}")
-    private String appointmentServiceUrl;
+    private final ResponseCache<AppointmentResponse> appointmentCache;
+    
+    private final DownstreamGuard guard;
+    
+    public AppointmentServiceClient(@Qualifier("appointmentWebClient") WebClient webClient,
+                                    ResponseCache<AppointmentResponse> appointmentCache,
+                                    @Qualifier("appointmentGuard") DownstreamGuard guard) {
+        this.webClient = webClient;
+        this.appointmentCache = appointmentCache;
+        this.guard = guard;
+    }
     
     
     /**
      * 전체 약속 목록 조회
      */
     public List<AppointmentResponse> getAllAppointments() {
-        log.info("AppointmentService에서 전체 약속 목록 조회 시작");
+        log.debug("AppointmentService에서 전체 약속 목록 조회 시작");
         
         try {
-            WebClient webClient = webClientBuilder
-                    .baseUrl(appointmentServiceUrl)
-                    .defaultHeader("Appointment-Agent", "appointment-service/1.0")
-                    .build();
+            List<AppointmentResponse> appointments = findAllAppointments().block();
             
-            // Appointment Service는 snake_case로 응답하므로 그대로 사용
-            List<AppointmentResponse> appointments = webClient
-                    .get()
-                    .uri("/appointments")
-                    .retrieve()
-                    .bodyToMono(new ParameterizedTypeReference<List<AppointmentResponse>>() {})
-                    .block();
-            
-            log.info("AppointmentService에서 전체 약속 목록 조회 성공 - 건수: {}", 
+            log.debug("AppointmentService에서 전체 약속 목록 조회 성공 - 건수: {}", 
                     appointments != null ? appointments.size() : 0);
             return appointments;
             
@@ -57,26 +61,63 @@ public class AppointmentServiceClient {
     }
     
     /**
-     * 약속 상세 조회
+     * 전체 약속 목록 조회 (non-blocking)
+     */
+    public Mono<List<AppointmentResponse>> findAllAppointments() {
+        // Appointment Service는 snake_case로 응답하므로 그대로 사용
+        return webClient
+                .get()
+                .uri("/appointments")
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<List<AppointmentResponse>>() {})
+                .transform(call -> guard.protect("getAllAppointments", call));
+    }
+    
+    /**
+     * 약속 상세 조회 (non-blocking, 캐시 우선, 404는 빈 Mono)
+     */
+    public Mono<AppointmentResponse> findAppointment(String appointmentId) {
+        return appointmentCache.get(appointmentId, this::fetchAppointment)
+                .onErrorResume(guard::isRejected, e -> staleFallback(appointmentId, e))
+                .mapNotNull(cached -> cached.orElse(null));
+    }
+    
+    /**
+     * 약속 조회 결과 (non-blocking, 미존재는 Optional.empty, 조회 실패는 getAppointmentById와 같은 DownstreamUnavailableException)
+     */
+    public Mono<Optional<AppointmentResponse>> lookupAppointment(String appointmentId) {
+        return findAppointment(appointmentId)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .onErrorMap(e -> new DownstreamUnavailableException("약속 조회에 실패했습니다: " + e.getMessage(), e));
+    }
+    
+    /**
+     * 여러 약속의 존재 여부를 한 번에 확인 (non-blocking, 다건 참가자 조회용)
+     * Appointment Service에 다건 조회 API가 없으므로 캐시 우선으로 확인하고,
+     * 캐시에 없는 약속만 최대 concurrency개씩 동시에 조회 (bulkhead 한도보다 작게 지정)
+     * @return Appointment Service에서 확인된 약속 ID
+     */
+    public Mono<Set<String>> lookupAppointments(Collection<String> appointmentIds, int concurrency) {
+        return Flux.fromIterable(new LinkedHashSet<>(appointmentIds))
+                .filter(Objects::nonNull)
+                .flatMap(appointmentId -> lookupAppointment(appointmentId)
+                        .filter(Optional::isPresent)
+                        .map(found -> appointmentId), concurrency)
+                .collect(Collectors.toSet());
+    }
+    
+    /**
+     * 약속 상세 조회 (캐시 우선, 404는 null 반환, 그 외 실패는 DownstreamUnavailableException)
      */
     public AppointmentResponse getAppointmentById(String appointmentId) {
-        log.info("AppointmentService에서 약속 상세 조회 시작 - appointmentId: {}", appointmentId);
+        log.debug("AppointmentService에서 약속 상세 조회 시작 - appointmentId: {}", appointmentId);
         
         try {
-            WebClient webClient = webClientBuilder
-                    .baseUrl(appointmentServiceUrl)
-                    .defaultHeader("Appointment-Agent", "appointment-service/1.0")
-                    .build();
-            
-            AppointmentResponse appointment = webClient
-                    .get()
-                    .uri("/appointments/{appointmentId}", appointmentId)
-                    .retrieve()
-                    .bodyToMono(AppointmentResponse.class)
-                    .block();
+            AppointmentResponse appointment = findAppointment(appointmentId).block();
             
             if (appointment != null) {
-                log.info("AppointmentService에서 약속 상세 조회 성공 - appointmentId: {}, title: {}", 
+                log.debug("AppointmentService에서 약속 상세 조회 성공 - appointmentId: {}, title: {}", 
                         appointmentId, appointment.getTitle());
             } else {
                 log.warn("AppointmentService에서 약속을 찾을 수 없음 - appointmentId: {}", appointmentId);
@@ -85,19 +126,40 @@ public class AppointmentServiceClient {
             return appointment;
             
         } catch (WebClientResponseException e) {
-            if (e.getStatusCode().value() == 404) {
-                log.warn("AppointmentService에서 약속을 찾을 수 없음 - appointmentId: {}", appointmentId);
-                return null;
-            }
             log.error("AppointmentService 약속 상세 조회 실패 - HTTP Status: {}, Body: {}", 
                     e.getStatusCode(), e.getResponseBodyAsString(), e);
-            throw new RuntimeException("약속 조회에 실패했습니다: " + e.getMessage());
+            throw new DownstreamUnavailableException("약속 조회에 실패했습니다: " + e.getMessage(), e);
         } catch (Exception e) {
             log.error("AppointmentService 약속 상세 조회 실패 - appointmentId: {}", appointmentId, e);
-            throw new RuntimeException("약속 조회에 실패했습니다: " + e.getMessage());
+            throw new DownstreamUnavailableException("약속 조회에 실패했습니다: " + e.getMessage(), e);
         }
     }
     
+    /**
+     * circuit breaker OPEN 또는 bulkhead 포화로 호출이 거절된 경우 마지막 캐시 값으로 응답
+     */
+    private Mono<Optional<AppointmentResponse>> staleFallback(String appointmentId, Throwable e) {
+        Optional<AppointmentResponse> stale = guard.isServeStale() ? appointmentCache.getStale(appointmentId) : Optional.empty();
+        if (stale.isEmpty()) {
+            return Mono.error(e);
+        }
+        log.warn("AppointmentService 호출 차단({}) - 마지막 캐시 값 사용, appointmentId: {}", e.getClass().getSimpleName(), appointmentId);
+        return Mono.just(stale);
+    }
+    
+    /**
+     * Appointment Service 원격 조회 (404는 빈 Mono로 변환하여 negative 캐싱)
+     */
+    private Mono<AppointmentResponse> fetchAppointment(String appointmentId) {
+        return webClient
+                .get()
+                .uri("/appointments/{appointmentId}", appointmentId)
+                .retrieve()
+                .bodyToMono(AppointmentResponse.class)
+                .onErrorResume(WebClientResponseException.NotFound.class, e -> Mono.empty())
+                .transform(call -> guard.protect("getAppointment", call));
+    }
+    
     /**
      * 약속 존재 여부 확인 (Guest 등록 전 검증용)
      */
@@ -110,22 +172,18 @@ public class AppointmentServiceClient {
      * 호스트 ID로 약속 목록 조회 (상태 변경 권한 확인용)
      */
     public List<AppointmentResponse> getAppointmentsByHostId(String hostId) {
-        log.info("AppointmentService에서 호스트 약속 목록 조회 시작 - hostId: {}", hostId);
+        log.debug("AppointmentService에서 호스트 약속 목록 조회 시작 - hostId: {}", hostId);
         
         try {
-            WebClient webClient = webClientBuilder
-                    .baseUrl(appointmentServiceUrl)
-                    .defaultHeader("Appointment-Agent", "appointment-service/1.0")
-                    .build();
-            
             List<AppointmentResponse> appointments = webClient
                     .get()
                     .uri("/appointments/host/{hostId}", hostId)
                     .retrieve()
                     .bodyToMono(new ParameterizedTypeReference<List<AppointmentResponse>>() {})
+                    .transform(call -> guard.protect("getAppointmentsByHostId", call))
                     .block();
             
-            log.info("AppointmentService에서 호스트 약속 목록 조회 성공 - hostId: {}, 건수: {}", 
+            log.debug("AppointmentService에서 호스트 약속 목록 조회 성공 - hostId: {}, 건수: {}", 
                     hostId, appointments != null ? appointments.size() : 0);
             return appointments != null ? appointments : List.of();
             
@@ -0,0 +1,21 @@
+package com.example.guest.client;
+
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.util.function.Predicate;
+
+/**
+ * circuit breaker 실패 기록 기준
+ * 4xx 응답은 호출자 문제이므로 다운스트림 장애로 집계하지 않음
+ * (resilience4j.circuitbreaker.configs.*.record-failure-predicate 에서 사용)
+ */
+public class DownstreamFailurePredicate implements Predicate<Throwable> {
+
+    @Override
+    public boolean test(Throwable throwable) {
+        if (throwable instanceof WebClientResponseException e) {
+            return e.getStatusCode().is5xxServerError();
+        }
+        return true;
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.guest.client;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Mono;
+
+/**
+ * 다운스트림 호출 보호 정책 (bulkhead → circuit breaker → retry 순으로 감쌈)
+ * - bulkhead: 동시 호출 수 제한, 초과 시 대기 없이 BulkheadFullException
+ * - circuit breaker: OPEN 상태에서는 원격 호출 없이 CallNotPermittedException
+ * - retry: RetryPolicy (재시도 전체가 circuit breaker의 한 번의 호출로 기록됨)
+ */
+public class DownstreamGuard {
+
+    private final RetryPolicy retryPolicy;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final boolean serveStale;
+    private MeterRegistry meterRegistry;
+
+    public DownstreamGuard(RetryPolicy retryPolicy, CircuitBreaker circuitBreaker, Bulkhead bulkhead,
+                           boolean serveStale) {
+        this.retryPolicy = retryPolicy;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.serveStale = serveStale;
+    }
+
+    /**
+     * @param operation guest.downstream 지표의 operation 태그 (호출 종류)
+     */
+    public <T> Mono<T> protect(String operation, Mono<T> call) {
+        Mono<T> guarded = call
+                .transform(retryPolicy::apply)
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .transformDeferred(BulkheadOperator.of(bulkhead));
+        if (meterRegistry == null) {
+            return guarded;
+        }
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return guarded
+                    .doOnSuccess(value -> record(sample, operation, "SUCCESS"))
+                    .doOnError(e -> record(sample, operation, isRejected(e) ? "REJECTED" : "ERROR"))
+                    .doOnCancel(() -> record(sample, operation, "CANCELLED"));
+        });
+    }
+
+    /**
+     * guest.downstream 지표 등록 (downstream, operation, outcome 태그)
+     * 재시도와 backoff를 포함한 호출 전체 시간이며, 시도별 HTTP 시간은 http.client.requests 참고
+     */
+    public DownstreamGuard bindTo(MeterRegistry registry) {
+        this.meterRegistry = registry;
+        return this;
+    }
+
+    private void record(Timer.Sample sample, String operation, String outcome) {
+        sample.stop(Timer.builder("guest.downstream")
+                .description("Downstream call latency including retries")
+                .tag("downstream", circuitBreaker.getName())
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+
+    /**
+     * circuit breaker 또는 bulkhead에 의해 호출 자체가 거절되었는지 여부
+     */
+    public boolean isRejected(Throwable throwable) {
+        return throwable instanceof CallNotPermittedException
+                || throwable instanceof BulkheadFullException;
+    }
+
+    /**
+     * 거절 시 마지막으로 조회된 캐시 값을 대신 반환할지 여부
+     */
+    public boolean isServeStale() {
+        return serveStale;
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.guest.client;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 다운스트림 조회 실패 (타임아웃, 5xx, circuit breaker OPEN, bulkhead 포화)
+ * 존재 여부를 알 수 없는 상태이므로 404(미존재)와 구분하여 503으로 응답
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class DownstreamUnavailableException extends RuntimeException {
+
+    public DownstreamUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.guest.client;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 다운스트림 응답용 read-through 캐시
+ * - Caffeine(W-TinyLFU) 기반, 최대 크기 제한
+ * - 조회 성공은 ttl, 404(빈 응답)는 negativeTtl 동안 보관
+ * - 조회 중 예외가 발생하면 캐시에 남기지 않음
+ * - 같은 key의 동시 조회는 진행 중인 하나의 future를 공유 (single-flight)
+ * - 마지막으로 조회에 성공한 값은 staleTtl 동안 별도로 보관 (다운스트림 장애 시 fallback 용)
+ */
+public class ResponseCache<V> {
+
+    private final String name;
+    private final AsyncCache<String, Optional<V>> cache;
+    private final Cache<String, V> lastKnown;
+
+    public ResponseCache(String name, Duration ttl, Duration negativeTtl, Duration staleTtl, long maximumSize) {
+        this.name = name;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new ResponseExpiry<V>(ttl, negativeTtl))
+                .recordStats()
+                .buildAsync();
+        this.lastKnown = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(staleTtl)
+                .build();
+    }
+
+    /**
+     * 캐시에 있으면 캐시 값을, 없으면 loader 결과를 저장 후 반환
+     * loader가 진행 중이면 새 호출 없이 같은 결과를 기다림
+     * 구독 취소가 공유 future를 취소하지 않도록 suppressCancel=true 사용
+     */
+    public Mono<Optional<V>> get(String key, Function<String, Mono<V>> loader) {
+        return Mono.fromFuture(() -> cache.get(key, (k, executor) -> loader.apply(k)
+                .doOnNext(value -> lastKnown.put(k, value))
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .toFuture()), true);
+    }
+
+    /**
+     * 마지막으로 조회에 성공한 값 (TTL 만료 여부와 무관, staleTtl 이내)
+     */
+    public Optional<V> getStale(String key) {
+        return Optional.ofNullable(lastKnown.getIfPresent(key));
+    }
+
+    public void evict(String key) {
+        cache.synchronous().invalidate(key);
+        lastKnown.invalidate(key);
+    }
+
+    public void evictAll() {
+        cache.synchronous().invalidateAll();
+        lastKnown.invalidateAll();
+    }
+
+    public long size() {
+        return cache.synchronous().estimatedSize();
+    }
+
+    public CacheStats stats() {
+        return cache.synchronous().stats();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * cache.gets(hit/miss), cache.evictions, cache.size 지표 등록
+     */
+    public ResponseCache<V> bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache.synchronous(), name);
+        return this;
+    }
+
+    private static class ResponseExpiry<V> implements Expiry<String, Optional<V>> {
+
+        private final long ttlNanos;
+        private final long negativeTtlNanos;
+
+        ResponseExpiry(Duration ttl, Duration negativeTtl) {
+            this.ttlNanos = ttl.toNanos();
+            this.negativeTtlNanos = negativeTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(String key, Optional<V> value, long currentTime) {
+            return value.isPresent() ? ttlNanos : negativeTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Optional<V> value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Optional<V> value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
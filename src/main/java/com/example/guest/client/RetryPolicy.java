@@ -0,0 +1,64 @@
+package com.example.guest.client;
+
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 다운스트림 호출 재시도 정책
+ * - 시도별 timeout, 지수 백오프 + jitter, 전체 deadline
+ * - 재시도 대상: 연결 오류, 시도별 timeout, retryableStatuses에 포함된 HTTP 상태
+ * - 백오프 대기는 Reactor 타이머(parallel scheduler)에서 처리되므로 요청 스레드를 sleep 시키지 않음
+ */
+public class RetryPolicy {
+
+    private final int maxAttempts;
+    private final Duration minBackoff;
+    private final Duration maxBackoff;
+    private final double jitter;
+    private final Duration perAttemptTimeout;
+    private final Duration deadline;
+    private final Set<Integer> retryableStatuses;
+
+    public RetryPolicy(int maxAttempts, Duration minBackoff, Duration maxBackoff, double jitter,
+                       Duration perAttemptTimeout, Duration deadline, Set<Integer> retryableStatuses) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts는 1 이상이어야 합니다: " + maxAttempts);
+        }
+        this.maxAttempts = maxAttempts;
+        this.minBackoff = minBackoff;
+        this.maxBackoff = maxBackoff;
+        this.jitter = jitter;
+        this.perAttemptTimeout = perAttemptTimeout;
+        this.deadline = deadline;
+        this.retryableStatuses = Set.copyOf(retryableStatuses);
+    }
+
+    /**
+     * 호출 파이프라인에 재시도 정책 적용
+     * 재시도를 모두 소진하면 마지막 실패 예외를 그대로 전달
+     */
+    public <T> Mono<T> apply(Mono<T> call) {
+        return call
+                .timeout(perAttemptTimeout)
+                .retryWhen(Retry.backoff(maxAttempts - 1, minBackoff)
+                        .maxBackoff(maxBackoff)
+                        .jitter(jitter)
+                        .filter(this::isRetryable)
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+                .timeout(deadline);
+    }
+
+    boolean isRetryable(Throwable throwable) {
+        if (throwable instanceof WebClientResponseException e) {
+            return retryableStatuses.contains(e.getStatusCode().value());
+        }
+        return throwable instanceof WebClientRequestException
+                || throwable instanceof TimeoutException;
+    }
+}
@@ -3,112 +3,154 @@ package com.example.guest.client;
 import com.example.guest.dto.ApiResponse;
 import com.example.guest.dto.UserResponse;
 import org.springframework.core.ParameterizedTypeReference;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class UserServiceClient {
-    
-    private final WebClient.Builder webClientBuilder;
-    
-    @Value("${services.user.url}")
-    private String userServiceUrl;
-    
-    
+
+    private final WebClient webClient;
+
+    private final ResponseCache<UserResponse> userCache;
+
+    private final DownstreamGuard guard;
+
+    public UserServiceClient(@Qualifier("userWebClient") WebClient webClient,
+                             ResponseCache<UserResponse> userCache,
+                             @Qualifier("userGuard") DownstreamGuard guard) {
+        this.webClient = webClient;
+        this.userCache = userCache;
+        this.guard = guard;
+    }
+
+
+    /**
+     * 사용자 정보 조회 (non-blocking, 캐시 우선, 미존재 시 빈 Mono)
+     */
+    public Mono<UserResponse> findUser(String userId) {
+        return userCache.get(userId, this::fetchUser)
+                .onErrorResume(guard::isRejected, e -> staleFallback(userId, e))
+                .mapNotNull(cached -> cached.orElse(null));
+    }
+
+    /**
+     * 사용자 조회 결과 (non-blocking, 미존재는 Optional.empty, 조회 실패는 DownstreamUnavailableException)
+     */
+    public Mono<Optional<UserResponse>> lookupUser(String userId) {
+        return findUser(userId)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .onErrorMap(e -> new DownstreamUnavailableException("사용자 조회에 실패했습니다: " + e.getMessage(), e));
+    }
+
+    /**
+     * 여러 사용자의 존재 여부를 한 번에 확인 (non-blocking, 일괄 등록용)
+     * 캐시 우선이며 캐시에 없는 사용자는 최대 concurrency개씩 동시에 조회 (bulkhead 한도보다 작게 지정)
+     * 한 명이라도 조회에 실패하면 전체가 DownstreamUnavailableException으로 실패 (미존재로 취급하지 않음)
+     * @return User Service에서 확인된 사용자 ID
+     */
+    public Mono<Set<String>> lookupUsers(Collection<String> userIds, int concurrency) {
+        return Flux.fromIterable(new LinkedHashSet<>(userIds))
+                .filter(Objects::nonNull)
+                .flatMap(userId -> lookupUser(userId)
+                        .filter(Optional::isPresent)
+                        .map(found -> userId), concurrency)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * 사용자 정보 조회 (캐시 우선)
+     * 동일 userId에 대한 동시 요청은 진행 중인 하나의 원격 호출 결과를 함께 받음 (single-flight)
+     * 사용자가 없으면 null, 재시도 후에도 실패하면 DownstreamUnavailableException
+     */
     public UserResponse getUserById(String userId) {
-        log.info("UserService에서 사용자 정보 조회 시작 - userId: {}", userId);
-        
-        // 재시도 로직 포함
-        int retryCount = 0;
-        while (retryCount < 3) {
-            try {
-                WebClient webClient = webClientBuilder
-                        .baseUrl(userServiceUrl)
-                        .defaultHeader("User-Agent", "guest-service/1.0")
-                        .build();
-                
-                ApiResponse<UserResponse> apiResponse = webClient
-                        .get()
-                        .uri("/users/{userId}", userId)
-                        .retrieve()
-                        .bodyToMono(new ParameterizedTypeReference<ApiResponse<UserResponse>>() {})
-                        .block();
-                
-                if (apiResponse != null && apiResponse.isSuccess() && apiResponse.getData() != null) {
-                    UserResponse userResponse = apiResponse.getData();
-                    log.info("UserService에서 사용자 정보 조회 성공 - userId: {}, username: {}", 
-                            userId, userResponse.getUsername());
-                    return userResponse;
-                }
-                
-            } catch (Exception e) {
-                retryCount++;
-                log.warn("UserService 호출 실패 - {}회차 재시도, userId: {}", retryCount, userId, e);
-                
-                if (retryCount < 3) {
-                    try {
-                        Thread.sleep(500); // 0.5초 대기 후 재시도
-                    } catch (InterruptedException ie) {
-                        Thread.currentThread().interrupt();
-                        break;
-                    }
-                }
+        log.debug("UserService에서 사용자 정보 조회 시작 - userId: {}", userId);
+
+        try {
+            UserResponse userResponse = findUser(userId).block();
+
+            if (userResponse != null) {
+                log.debug("UserService에서 사용자 정보 조회 성공 - userId: {}, username: {}",
+                        userId, userResponse.getUsername());
+            } else {
+                log.warn("UserService에서 사용자를 찾을 수 없음 - userId: {}", userId);
             }
+            return userResponse;
+
+        } catch (Exception e) {
+            log.error("UserService 재시도 실패 - userId: {}", userId, e);
+            throw new DownstreamUnavailableException("사용자 조회에 실패했습니다: " + e.getMessage(), e);
         }
-        
-        log.error("UserService 재시도 실패 - userId: {}", userId);
-        return null;
     }
-    
+
+    /**
+     * circuit breaker OPEN 또는 bulkhead 포화로 호출이 거절된 경우 마지막 캐시 값으로 응답
+     */
+    private Mono<Optional<UserResponse>> staleFallback(String userId, Throwable e) {
+        Optional<UserResponse> stale = guard.isServeStale() ? userCache.getStale(userId) : Optional.empty();
+        if (stale.isEmpty()) {
+            return Mono.error(e);
+        }
+        log.warn("UserService 호출 차단({}) - 마지막 캐시 값 사용, userId: {}", e.getClass().getSimpleName(), userId);
+        return Mono.just(stale);
+    }
+
+    /**
+     * User Service 원격 조회
+     * 404 또는 success=false 응답은 빈 Mono (negative 캐싱 대상), 그 외 실패는 재시도 정책 적용 후 예외 전달
+     */
+    private Mono<UserResponse> fetchUser(String userId) {
+        return webClient
+                .get()
+                .uri("/users/{userId}", userId)
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<ApiResponse<UserResponse>>() {})
+                .onErrorResume(WebClientResponseException.NotFound.class, e -> Mono.empty())
+                .transform(call -> guard.protect("getUser", call))
+                .filter(apiResponse -> apiResponse.isSuccess() && apiResponse.getData() != null)
+                .map(ApiResponse::getData);
+    }
+
     /**
      * 모든 사용자 목록 조회
      * user-service의 GET /users API 호출
      */
     public Object getAllUsers() {
-        log.info("UserService에서 모든 사용자 목록 조회 시작");
-        
-        // 재시도 로직 포함
-        int retryCount = 0;
-        while (retryCount < 3) {
-            try {
-                WebClient webClient = webClientBuilder
-                        .baseUrl(userServiceUrl)
-                        .defaultHeader("User-Agent", "guest-service/1.0")
-                        .build();
-                
-                Object apiResponse = webClient
-                        .get()
-                        .uri("/users")
-                        .retrieve()
-                        .bodyToMono(Object.class)
-                        .block();
-                
-                if (apiResponse != null) {
-                    log.info("UserService에서 모든 사용자 목록 조회 성공");
-                    return apiResponse;
-                }
-                
-            } catch (Exception e) {
-                retryCount++;
-                log.warn("UserService 모든 사용자 목록 호출 실패 - {}회차 재시도", retryCount, e);
-                
-                if (retryCount < 3) {
-                    try {
-                        Thread.sleep(500); // 0.5초 대기 후 재시도
-                    } catch (InterruptedException ie) {
-                        Thread.currentThread().interrupt();
-                        break;
-                    }
-                }
+        log.debug("UserService에서 모든 사용자 목록 조회 시작");
+
+        try {
+            Object apiResponse = webClient
+                    .get()
+                    .uri("/users")
+                    .retrieve()
+                    .bodyToMono(Object.class)
+                    .transform(call -> guard.protect("getAllUsers", call))
+                    .block();
+
+            if (apiResponse != null) {
+                log.debug("UserService에서 모든 사용자 목록 조회 성공");
+                return apiResponse;
             }
+
+        } catch (Exception e) {
+            log.error("UserService 모든 사용자 목록 재시도 실패", e);
+            throw new RuntimeException("사용자 목록 조회에 실패했습니다");
         }
-        
-        log.error("UserService 모든 사용자 목록 재시도 실패");
+
+        log.error("UserService 모든 사용자 목록 응답 없음");
         throw new RuntimeException("사용자 목록 조회에 실패했습니다");
     }
 }
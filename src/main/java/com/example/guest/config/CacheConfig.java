@@ -0,0 +1,43 @@
+package com.example.guest.config;
+
+import com.example.guest.client.ResponseCache;
+import com.example.guest.dto.AppointmentResponse;
+import com.example.guest.dto.UserResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class CacheConfig {
+
+    /**
+     * Appointment 조회 캐시 (appointmentId 기준)
+     */
+    @Bean
+    public ResponseCache<AppointmentResponse> appointmentCache(
+            MeterRegistry meterRegistry,
+            @Value("${services.appointment.cache.ttl:30s}") Duration ttl,
+            @Value("${services.appointment.cache.negative-ttl:5s}") Duration negativeTtl,
+            @Value("${services.appointment.cache.stale-ttl:10m}") Duration staleTtl,
+            @Value("${services.appointment.cache.max-size:10000}") long maxSize) {
+        return new ResponseCache<AppointmentResponse>("appointments", ttl, negativeTtl, staleTtl, maxSize)
+                .bindTo(meterRegistry);
+    }
+
+    /**
+     * User 조회 캐시 (userId 기준)
+     */
+    @Bean
+    public ResponseCache<UserResponse> userCache(
+            MeterRegistry meterRegistry,
+            @Value("${services.user.cache.ttl:60s}") Duration ttl,
+            @Value("${services.user.cache.negative-ttl:5s}") Duration negativeTtl,
+            @Value("${services.user.cache.stale-ttl:10m}") Duration staleTtl,
+            @Value("${services.user.cache.max-size:10000}") long maxSize) {
+        return new ResponseCache<UserResponse>("users", ttl, negativeTtl, staleTtl, maxSize)
+                .bindTo(meterRegistry);
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.guest.config;
+
+import com.example.guest.service.id.GuestIdGenerator;
+import com.example.guest.service.id.SnowflakeGuestIdGenerator;
+import com.example.guest.service.id.UlidGuestIdGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Guest ID 생성 전략 선택 (app.guest-id.strategy)
+ * - ulid (기본): 노드 설정 없이 레플리카 간 충돌 회피
+ * - snowflake: 레플리카마다 고유한 app.guest-id.node-id 필요
+ */
+@Configuration
+@Slf4j
+public class GuestIdConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "app.guest-id.strategy", havingValue = "ulid", matchIfMissing = true)
+    public GuestIdGenerator ulidGuestIdGenerator() {
+        return new UlidGuestIdGenerator();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.guest-id.strategy", havingValue = "snowflake")
+    public GuestIdGenerator snowflakeGuestIdGenerator(@Value("${app.guest-id.node-id}") long nodeId) {
+        log.info("Snowflake Guest ID 생성기 사용 - nodeId: {}", nodeId);
+        return new SnowflakeGuestIdGenerator(nodeId);
+    }
+}
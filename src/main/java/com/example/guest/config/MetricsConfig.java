@@ -0,0 +1,31 @@
+package com.example.guest.config;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 지표 공통 설정
+ * - @Timed(guest.service) 타이머는 exception 태그만 있으므로 outcome(SUCCESS/ERROR) 태그를 덧붙여
+ *   http.server.requests, spring.data.repository.invocations, guest.downstream과 같은 기준으로 조회
+ * - TimedAspect는 management.observations.annotations.enabled=true로 자동 등록
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterFilter serviceOutcomeTag() {
+        return new MeterFilter() {
+            @Override
+            public Meter.Id map(Meter.Id id) {
+                if (!id.getName().equals("guest.service") || id.getTag("outcome") != null) {
+                    return id;
+                }
+                String exception = id.getTag("exception");
+                return id.withTag(Tag.of("outcome", exception == null || "none".equals(exception) ? "SUCCESS" : "ERROR"));
+            }
+        };
+    }
+}
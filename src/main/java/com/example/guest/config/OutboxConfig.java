@@ -0,0 +1,51 @@
+package com.example.guest.config;
+
+import com.example.guest.service.outbox.FileOutboxSink;
+import com.example.guest.service.outbox.GuestOutboxSink;
+import com.example.guest.service.outbox.LogOutboxSink;
+import com.example.guest.service.outbox.WebhookOutboxSink;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 참가자 변경 이벤트 outbox 전달 설정
+ * app.outbox.sink 값으로 전달 대상을 선택 (log 기본, file, webhook)
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.outbox.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "app.outbox.sink", havingValue = "log", matchIfMissing = true)
+    public GuestOutboxSink logOutboxSink(ObjectMapper objectMapper) {
+        return new LogOutboxSink(objectMapper);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.outbox.sink", havingValue = "file")
+    public GuestOutboxSink fileOutboxSink(
+            ObjectMapper objectMapper,
+            @Value("${app.outbox.file.path:./outbox/guest-events.ndjson}") String path) throws IOException {
+        return new FileOutboxSink(objectMapper, Path.of(path));
+    }
+
+    /**
+     * Notification Service 등 구독 서비스의 수신 URL로 배치 POST
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.outbox.sink", havingValue = "webhook")
+    public GuestOutboxSink webhookOutboxSink(
+            WebClient.Builder webClientBuilder,
+            @Value("${app.outbox.webhook.url}") String url,
+            @Value("${app.outbox.webhook.timeout:5s}") Duration timeout) {
+        return new WebhookOutboxSink(webClientBuilder.clone().baseUrl(url).build(), timeout);
+    }
+}
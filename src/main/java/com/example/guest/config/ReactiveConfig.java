@@ -0,0 +1,24 @@
+package com.example.guest.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * reactive 프로파일 전용 설정
+ * JPA(블로킹) 호출은 커넥션 풀 크기에 맞춘 전용 스케줄러에서만 실행하여 이벤트 루프를 막지 않음
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler jpaScheduler(
+            @Value("${app.reactive.jpa-scheduler.thread-cap:${spring.datasource.hikari.maximum-pool-size:10}}") int threadCap,
+            @Value("${app.reactive.jpa-scheduler.queued-task-cap:10000}") int queuedTaskCap) {
+        return Schedulers.newBoundedElastic(threadCap, queuedTaskCap, "jpa");
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.guest.config;
+
+import com.example.guest.client.DownstreamGuard;
+import com.example.guest.client.RetryPolicy;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+
+@Configuration
+public class ResilienceConfig {
+
+    /**
+     * Appointment Service 호출 재시도 정책
+     */
+    @Bean
+    public RetryPolicy appointmentRetryPolicy(
+            @Value("${services.appointment.retry.max-attempts:3}") int maxAttempts,
+            @Value("${services.appointment.retry.min-backoff:100ms}") Duration minBackoff,
+            @Value("${services.appointment.retry.max-backoff:1s}") Duration maxBackoff,
+            @Value("${services.appointment.retry.jitter:0.5}") double jitter,
+            @Value("${services.appointment.retry.per-attempt-timeout:2s}") Duration perAttemptTimeout,
+            @Value("${services.appointment.retry.deadline:5s}") Duration deadline,
+            @Value("${services.appointment.retry.retryable-statuses:502,503,504}") List<Integer> retryableStatuses) {
+        return new RetryPolicy(maxAttempts, minBackoff, maxBackoff, jitter,
+                perAttemptTimeout, deadline, new HashSet<>(retryableStatuses));
+    }
+
+    /**
+     * User Service 호출 재시도 정책
+     */
+    @Bean
+    public RetryPolicy userRetryPolicy(
+            @Value("${services.user.retry.max-attempts:3}") int maxAttempts,
+            @Value("${services.user.retry.min-backoff:100ms}") Duration minBackoff,
+            @Value("${services.user.retry.max-backoff:1s}") Duration maxBackoff,
+            @Value("${services.user.retry.jitter:0.5}") double jitter,
+            @Value("${services.user.retry.per-attempt-timeout:2s}") Duration perAttemptTimeout,
+            @Value("${services.user.retry.deadline:5s}") Duration deadline,
+            @Value("${services.user.retry.retryable-statuses:502,503,504}") List<Integer> retryableStatuses) {
+        return new RetryPolicy(maxAttempts, minBackoff, maxBackoff, jitter,
+                perAttemptTimeout, deadline, new HashSet<>(retryableStatuses));
+    }
+
+    /**
+     * Appointment Service 호출 보호 (resilience4j 인스턴스명: appointment)
+     */
+    @Bean
+    public DownstreamGuard appointmentGuard(
+            @Qualifier("appointmentRetryPolicy") RetryPolicy retryPolicy,
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            BulkheadRegistry bulkheadRegistry,
+            MeterRegistry meterRegistry,
+            @Value("${services.appointment.circuit-breaker.serve-stale:true}") boolean serveStale) {
+        return new DownstreamGuard(retryPolicy,
+                circuitBreakerRegistry.circuitBreaker("appointment"),
+                bulkheadRegistry.bulkhead("appointment"),
+                serveStale)
+                .bindTo(meterRegistry);
+    }
+
+    /**
+     * User Service 호출 보호 (resilience4j 인스턴스명: user)
+     */
+    @Bean
+    public DownstreamGuard userGuard(
+            @Qualifier("userRetryPolicy") RetryPolicy retryPolicy,
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            BulkheadRegistry bulkheadRegistry,
+            MeterRegistry meterRegistry,
+            @Value("${services.user.circuit-breaker.serve-stale:true}") boolean serveStale) {
+        return new DownstreamGuard(retryPolicy,
+                circuitBreakerRegistry.circuitBreaker("user"),
+                bulkheadRegistry.bulkhead("user"),
+                serveStale)
+                .bindTo(meterRegistry);
+    }
+}
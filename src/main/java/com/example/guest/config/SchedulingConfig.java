@@ -0,0 +1,12 @@
+package com.example.guest.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기 작업 (outbox 전달, 상태 write-behind flush)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
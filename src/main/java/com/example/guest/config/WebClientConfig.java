@@ -1,5 +1,7 @@
 package com.example.guest.config;
 
+import io.micrometer.observation.ObservationRegistry;
+import io.netty.channel.ChannelOption;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
 import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
@@ -9,34 +11,95 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 import javax.net.ssl.SSLException;
+import java.time.Duration;
 
 @Configuration
 public class WebClientConfig {
-    
+
     @Value("${app.ssl.trust-all:false}")
     private boolean trustAllCertificates;
-    
+
+    /**
+     * 다운스트림 호출이 공유하는 커넥션 풀
+     * - metrics(true): reactor.netty.connection.provider.* (active/idle/pending) 지표를 actuator로 노출
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider connectionProvider(
+            @Value("${app.http.pool.max-connections:100}") int maxConnections,
+            @Value("${app.http.pool.pending-acquire-max-count:500}") int pendingAcquireMaxCount,
+            @Value("${app.http.pool.pending-acquire-timeout:5s}") Duration pendingAcquireTimeout,
+            @Value("${app.http.pool.max-idle-time:30s}") Duration maxIdleTime,
+            @Value("${app.http.pool.max-life-time:5m}") Duration maxLifeTime,
+            @Value("${app.http.pool.evict-in-background:30s}") Duration evictInBackground) {
+        return ConnectionProvider.builder("guest-service")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .evictInBackground(evictInBackground)
+                .metrics(true)
+                .build();
+    }
+
+    /**
+     * 다운스트림 WebClient 공통 builder
+     * - observationRegistry: 시도별 http.client.requests 지표 (uri 템플릿, status, outcome 태그)
+     */
     @Bean
-    public WebClient.Builder webClientBuilder() throws SSLException {
-        HttpClient httpClient;
-        
+    public WebClient.Builder webClientBuilder(
+            ConnectionProvider connectionProvider,
+            ObservationRegistry observationRegistry,
+            @Value("${app.http.keep-alive:true}") boolean keepAlive,
+            @Value("${app.http.connect-timeout:3s}") Duration connectTimeout) throws SSLException {
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .keepAlive(keepAlive)
+                .option(ChannelOption.SO_KEEPALIVE, keepAlive)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis());
+
         if (trustAllCertificates) {
             // 개발환경에서는 인증서 검증 비활성화
             SslContext sslContext = SslContextBuilder
                     .forClient()
                     .trustManager(InsecureTrustManagerFactory.INSTANCE)
                     .build();
-            
-            httpClient = HttpClient.create()
+
+            httpClient = httpClient
                     .secure(sslContextSpec -> sslContextSpec.sslContext(sslContext));
-        } else {
-            // Azure/프로덕션 환경에서는 기본 SSL 설정 사용
-            httpClient = HttpClient.create();
         }
-        
+        // Azure/프로덕션 환경에서는 기본 SSL 설정 사용
+
         return WebClient.builder()
-                .clientConnector(new ReactorClientHttpConnector(httpClient));
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .observationRegistry(observationRegistry);
+    }
+
+    /**
+     * Appointment Service 전용 WebClient (애플리케이션 수명 동안 재사용)
+     */
+    @Bean
+    public WebClient appointmentWebClient(
+            WebClient.Builder webClientBuilder,
+            @Value("${services.appointment.url}") String appointmentServiceUrl) {
+        return webClientBuilder.clone()
+                .baseUrl(appointmentServiceUrl)
+                .defaultHeader("Appointment-Agent", "appointment-service/1.0")
+                .build();
+    }
+
+    /**
+     * User Service 전용 WebClient (애플리케이션 수명 동안 재사용)
+     */
+    @Bean
+    public WebClient userWebClient(
+            WebClient.Builder webClientBuilder,
+            @Value("${services.user.url}") String userServiceUrl) {
+        return webClientBuilder.clone()
+                .baseUrl(userServiceUrl)
+                .defaultHeader("User-Agent", "guest-service/1.0")
+                .build();
     }
 }
@@ -0,0 +1,34 @@
+package com.example.guest.controller;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 요청당 1줄 access log 기록 (logger: access)
+ * 필드는 key-value로 남겨 구조화(JSON) 로그에서 ECS 필드명으로 출력되고,
+ * 일반 패턴 로그에서는 메시지로 확인 가능
+ */
+final class AccessLog {
+
+    private static final Logger log = LoggerFactory.getLogger("access");
+
+    private AccessLog() {
+    }
+
+    static boolean skip(String path) {
+        return path.startsWith("/actuator") || path.startsWith("/h2-console");
+    }
+
+    static void record(String method, String path, int status, long durationNanos) {
+        if (!log.isInfoEnabled()) {
+            return;
+        }
+        long durationMillis = durationNanos / 1_000_000;
+        log.atInfo()
+                .addKeyValue("http.request.method", method)
+                .addKeyValue("url.path", path)
+                .addKeyValue("http.response.status_code", status)
+                .addKeyValue("event.duration", durationNanos)
+                .log("{} {} {} {}ms", method, path, status, durationMillis);
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.guest.controller;
+
+import com.example.guest.client.ResponseCache;
+import com.example.guest.dto.AppointmentResponse;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Appointment 캐시 관리용 actuator 엔드포인트
+ * - GET    /actuator/appointmentcache                  : 캐시 통계
+ * - DELETE /actuator/appointmentcache/{appointmentId}  : 단건 무효화
+ */
+@Component
+@Endpoint(id = "appointmentcache")
+@RequiredArgsConstructor
+@Slf4j
+public class AppointmentCacheEndpoint {
+
+    private final ResponseCache<AppointmentResponse> appointmentCache;
+
+    @ReadOperation
+    public Map<String, Object> stats() {
+        CacheStats stats = appointmentCache.stats();
+        return Map.of(
+            "size", appointmentCache.size(),
+            "hit_count", stats.hitCount(),
+            "miss_count", stats.missCount(),
+            "eviction_count", stats.evictionCount(),
+            "hit_rate", stats.hitRate()
+        );
+    }
+
+    @DeleteOperation
+    public Map<String, Object> evict(@Selector String appointmentId) {
+        appointmentCache.evict(appointmentId);
+        log.info("Appointment 캐시 무효화 - appointmentId: {}", appointmentId);
+        return Map.of(
+            "success", true,
+            "appointment_id", appointmentId
+        );
+    }
+}
@@ -1,23 +1,49 @@
 package com.example.guest.controller;
 
 import com.example.guest.client.AppointmentServiceClient;
+import com.example.guest.client.DownstreamUnavailableException;
 import com.example.guest.client.UserServiceClient;
 import com.example.guest.dto.AppointmentResponse;
 import com.example.guest.dto.UserResponse;
+import com.example.guest.dto.request.GuestBatchRequest;
 import com.example.guest.dto.request.GuestRequest;
+import com.example.guest.dto.request.GuestStatusBatchRequest;
+import com.example.guest.dto.response.GuestBatchResponse;
+import com.example.guest.dto.response.GuestEventResponse;
+import com.example.guest.dto.response.GuestListBatchResponse;
+import com.example.guest.dto.response.GuestPageResponse;
 import com.example.guest.dto.response.GuestResponse;
+import com.example.guest.dto.response.GuestStatusBatchResponse;
+import com.example.guest.dto.response.GuestSummaryResponse;
+import com.example.guest.repository.GuestStatusVersion;
 import com.example.guest.service.GuestService;
+import com.example.guest.service.event.GuestEventHub;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/appointments")
 @CrossOrigin(origins = "*")
+@Profile("!reactive")
 @Slf4j
 public class GuestController {
 
@@ -29,6 +55,21 @@ public class GuestController {
     
     @Autowired
     private AppointmentServiceClient appointmentServiceClient; // Appointment 서비스 클라이언트 추가
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private GuestEventHub guestEventHub;
+    
+    @Value("${app.pagination.max-size:500}")
+    private int streamChunkSize;
+    
+    @Value("${services.user.batch-lookup-concurrency:32}")
+    private int userLookupConcurrency;
+    
+    @Value("${services.appointment.batch-lookup-concurrency:16}")
+    private int appointmentLookupConcurrency;
 
     // 전체 약속 목록 조회 (Appointment Service 의존)
     @GetMapping
@@ -71,31 +112,138 @@ public class GuestController {
             @PathVariable String appointment_id,
             @RequestBody GuestRequest request) {
         
-        // 1. AppointmentService에서 약속 존재 여부 확인
+        // 1. AppointmentService 약속 조회와 UserService 사용자 조회를 동시에 수행
+        Tuple2<Optional<AppointmentResponse>, Optional<UserResponse>> lookups = Mono.zip(
+                appointmentServiceClient.lookupAppointment(appointment_id),
+                userServiceClient.lookupUser(request.getUser_id()))
+                .block();
+        
+        // 2. 약속 존재 여부 확인
+        AppointmentResponse appointment = lookups.getT1()
+                .orElseThrow(() -> new RuntimeException("약속을 찾을 수 없습니다. Appointment ID: " + appointment_id));
+        
+        // 3. 사용자 존재 여부 확인
+        if (lookups.getT2().isEmpty()) {
+            throw new RuntimeException("사용자를 찾을 수 없습니다. User ID: " + request.getUser_id());
+        }
+        
+        // 조회한 약속 정보를 호스트 확인에 그대로 사용 (재조회 없음)
+        GuestResponse response = guestService.createGuest(appointment_id, appointment, request);
+        return ResponseEntity.ok(response);
+    }
+
+    // 약속 guest 일괄 등록 (약속 검증 1회, 사용자 동시 조회, batch INSERT)
+    @PostMapping("/{appointment_id}/guests/batch")
+    public ResponseEntity<Object> createGuests(
+            @PathVariable String appointment_id,
+            @RequestBody GuestBatchRequest request) {
+        
+        try {
+            guestService.validateBatchRequest(request);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+        
+        // 1. AppointmentService 약속 조회와 UserService 사용자 조회를 동시에 수행
+        Tuple2<Optional<AppointmentResponse>, Set<String>> lookups = Mono.zip(
+                appointmentServiceClient.lookupAppointment(appointment_id),
+                userServiceClient.lookupUsers(request.getUser_ids(), userLookupConcurrency))
+                .block();
+        
+        // 2. 약속 존재 여부 확인
+        AppointmentResponse appointment = lookups.getT1()
+                .orElseThrow(() -> new RuntimeException("약속을 찾을 수 없습니다. Appointment ID: " + appointment_id));
+        
+        // 3. 항목별 검증 후 일괄 등록
+        GuestBatchResponse response = guestService.createGuests(appointment_id, appointment, request, lookups.getT2());
+        return ResponseEntity.ok(response);
+    }
+
+    // 약속 guest 전체 조회 (cursor 또는 size를 주면 keyset 페이지 단위로 조회)
+    @GetMapping("/{appointment_id}/guests")
+    public ResponseEntity<?> getGuests(
+            @PathVariable String appointment_id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest webRequest) {
+        // AppointmentService에서 약속 존재 여부 확인
         if (!appointmentServiceClient.existsAppointment(appointment_id)) {
             throw new RuntimeException("약속을 찾을 수 없습니다. Appointment ID: " + appointment_id);
         }
         
-        // 2. UserService에서 사용자 정보 조회하여 검증 (기존 코드 유지)
-        UserResponse userResponse = userServiceClient.getUserById(request.getUser_id());
-        if (userResponse == null) {
-            throw new RuntimeException("사용자를 찾을 수 없습니다. User ID: " + request.getUser_id());
+        // If-None-Match가 현재 버전과 같으면 목록 조회/직렬화 없이 304
+        String etag = GuestETags.list(guestService.getGuestListVersion(appointment_id));
+        if (webRequest.checkNotModified(etag)) {
+            return GuestETags.notModified(etag);
+        }
+        
+        if (cursor == null && size == null) {
+            List<GuestResponse> guests = guestService.getGuests(appointment_id);
+            return GuestETags.ok(etag).body(guests);
+        }
+        
+        try {
+            return GuestETags.ok(etag).body(guestService.getGuestPage(appointment_id, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    // 여러 약속의 guest 목록 조회 (약속 확인은 캐시 우선 동시 조회, 참가자는 IN 쿼리 1회)
+    @GetMapping("/guests")
+    public ResponseEntity<Object> getGuestsByAppointments(
+            @RequestParam(required = false) List<String> appointment_ids) {
+        
+        List<String> appointmentIds;
+        try {
+            appointmentIds = guestService.validateAppointmentIds(appointment_ids);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
         
-        GuestResponse response = guestService.createGuest(appointment_id, request);
+        // 1. AppointmentService에서 약속 존재 여부 확인 (요청당 한 번에)
+        Set<String> found = appointmentServiceClient.lookupAppointments(appointmentIds, appointmentLookupConcurrency).block();
+        Map<Boolean, List<String>> checked = appointmentIds.stream()
+                .collect(Collectors.partitioningBy(found::contains));
+        
+        // 2. 존재하는 약속의 참가자를 한 번에 조회
+        GuestListBatchResponse response = guestService.getGuestsByAppointmentIds(checked.get(true), checked.get(false));
         return ResponseEntity.ok(response);
     }
 
-    // 약속 guest 전체 조회
-    @GetMapping("/{appointment_id}/guests")
-    public ResponseEntity<List<GuestResponse>> getGuests(@PathVariable String appointment_id) {
+    // 약속 guest 전체 조회 - NDJSON 스트리밍 (Accept: application/x-ndjson)
+    @GetMapping(value = "/{appointment_id}/guests", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamGuests(@PathVariable String appointment_id) {
+        // AppointmentService에서 약속 존재 여부 확인
+        if (!appointmentServiceClient.existsAppointment(appointment_id)) {
+            throw new RuntimeException("약속을 찾을 수 없습니다. Appointment ID: " + appointment_id);
+        }
+        
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(ndjson(cursor -> guestService.getGuestPage(appointment_id, cursor, streamChunkSize)));
+    }
+
+    // 참가자 등록/상태 변경/삭제 이벤트 구독 (SSE, 요청 스레드는 즉시 반환되고 구독은 비동기 응답으로 유지)
+    @GetMapping(value = "/{appointment_id}/guests/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<GuestEventResponse>> streamGuestEvents(@PathVariable String appointment_id) {
+        // AppointmentService에서 약속 존재 여부 확인
+        if (!appointmentServiceClient.existsAppointment(appointment_id)) {
+            throw new RuntimeException("약속을 찾을 수 없습니다. Appointment ID: " + appointment_id);
+        }
+        
+        return guestEventHub.subscribe(appointment_id);
+    }
+
+    // 약속 참가자 상태별 인원 (요약 테이블 조회 1회, 참가자 목록을 읽지 않음)
+    @GetMapping("/{appointment_id}/guests/summary")
+    public ResponseEntity<GuestSummaryResponse> getGuestSummary(@PathVariable String appointment_id) {
         // AppointmentService에서 약속 존재 여부 확인
         if (!appointmentServiceClient.existsAppointment(appointment_id)) {
             throw new RuntimeException("약속을 찾을 수 없습니다. Appointment ID: " + appointment_id);
         }
         
-        List<GuestResponse> guests = guestService.getGuests(appointment_id);
-        return ResponseEntity.ok(guests);
+        return ResponseEntity.ok(guestService.getGuestSummary(appointment_id));
     }
 
     // 약속 개별 조회
@@ -133,30 +281,38 @@ public class GuestController {
     @GetMapping("/{appointment_id}/guests/{guest_id}/guest_status")
     public ResponseEntity<Map<String, Object>> getGuestStatus(
             @PathVariable String appointment_id,
-            @PathVariable String guest_id) {
+            @PathVariable String guest_id,
+            WebRequest webRequest) {
         
-        log.info("🚀 [API 요청 시작] GET /appointments/{}/guests/{}/guest_status - appointment_id: {}, guest_id: {}", 
-                appointment_id, appointment_id, guest_id, appointment_id, guest_id);
+        log.debug("🚀 [API 요청 시작] GET /appointments/{}/guests/{}/guest_status", appointment_id, guest_id);
         
         try {
-            // Guest Service에서 상태만 조회 (getGuest 메서드 재사용)
-            log.info("🔍 [Guest Service] 상태 조회 시작 - appointment_id: {}, guest_id: {}", appointment_id, guest_id);
-            
-            String status = guestService.getGuestStatus(appointment_id, guest_id);
+            // 상태와 updated_at을 한 번에 조회 (없거나 다른 약속이면 getGuestStatus로 기존 오류 응답)
+            Optional<GuestStatusVersion> version = guestService.findGuestStatusVersion(appointment_id, guest_id);
+            if (version.isEmpty()) {
+                return ResponseEntity.ok(Map.of("guest_status", guestService.getGuestStatus(appointment_id, guest_id)));
+            }
+            String etag = GuestETags.status(version.get());
+            if (webRequest.checkNotModified(etag)) {
+                return GuestETags.notModified(etag);
+            }
+            String status = version.get().guestStatus();
             
             // 상태만 포함한 응답 생성
             Map<String, Object> response = Map.of(
                 "guest_status", status
             );
             
-            log.info("✅ [API 요청 성공] GET /appointments/{}/guests/{}/guest_status - appointment_id: {}, guest_id: {}, status: {}", 
-                    appointment_id, appointment_id, guest_id, appointment_id, guest_id, status);
+            if (log.isDebugEnabled()) {
+                log.debug("✅ [API 요청 성공] GET /appointments/{}/guests/{}/guest_status - status: {}",
+                        appointment_id, guest_id, status);
+            }
             
-            return ResponseEntity.ok(response);
+            return GuestETags.ok(etag).body(response);
             
         } catch (Exception e) {
-            log.error("💥 [API 요청 실패] GET /appointments/{}/guests/{}/guest_status - appointment_id: {}, guest_id: {}, error: {}", 
-                    appointment_id, appointment_id, guest_id, appointment_id, guest_id, e.getMessage(), e);
+            log.error("💥 [API 요청 실패] GET /appointments/{}/guests/{}/guest_status - error: {}",
+                    appointment_id, guest_id, e.getMessage(), e);
             
             return ResponseEntity.status(400).body(Map.of(
                 "error", e.getMessage(),
@@ -166,51 +322,122 @@ public class GuestController {
         }
     }
 
-    // 특정 사용자가 참여한 모든 게스트 정보 조회
+    // 특정 사용자가 참여한 모든 게스트 정보 조회 (cursor 또는 size를 주면 keyset 페이지 단위로 조회)
     @GetMapping("/guests/user/{user_id}")
-    public ResponseEntity<List<GuestResponse>> getGuestsByUserId(@PathVariable String user_id) {
-        log.info("🚀 [API 요청 시작] GET /appointments/guests/user/{} - user_id: {}", user_id, user_id);
+    public ResponseEntity<?> getGuestsByUserId(
+            @PathVariable String user_id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        log.debug("🚀 [API 요청 시작] GET /appointments/guests/user/{}", user_id);
+        
+        if (cursor != null || size != null) {
+            try {
+                return ResponseEntity.ok(guestService.getGuestPageByUserId(user_id, cursor, size));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+            }
+        }
         
         try {
             List<GuestResponse> guests = guestService.getGuestsByUserId(user_id);
             
-            log.info("✅ [API 요청 성공] GET /appointments/guests/user/{} - user_id: {}, 게스트 수: {}", 
-                    user_id, user_id, guests.size());
+            log.debug("✅ [API 요청 성공] GET /appointments/guests/user/{} - 게스트 수: {}", user_id, guests.size());
             
             return ResponseEntity.ok(guests);
             
         } catch (Exception e) {
-            log.error("💥 [API 요청 실패] GET /appointments/guests/user/{} - user_id: {}, error: {}", 
-                    user_id, user_id, e.getMessage(), e);
+            log.error("💥 [API 요청 실패] GET /appointments/guests/user/{} - error: {}", user_id, e.getMessage(), e);
             
             return ResponseEntity.status(500).body(List.of());
         }
     }
 
+    // 특정 사용자가 참여한 모든 게스트 정보 조회 - NDJSON 스트리밍 (Accept: application/x-ndjson)
+    @GetMapping(value = "/guests/user/{user_id}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamGuestsByUserId(@PathVariable String user_id) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(ndjson(cursor -> guestService.getGuestPageByUserId(user_id, cursor, streamChunkSize)));
+    }
+
     // 특정 사용자의 특정 상태 게스트 정보 조회
     @GetMapping("/guests/user/{user_id}/status/{status}")
     public ResponseEntity<List<GuestResponse>> getGuestsByUserIdAndStatus(
             @PathVariable String user_id, 
             @PathVariable String status) {
-        log.info("🚀 [API 요청 시작] GET /appointments/guests/user/{}/status/{} - user_id: {}, status: {}", 
-                user_id, status, user_id, status);
+        log.debug("🚀 [API 요청 시작] GET /appointments/guests/user/{}/status/{}", user_id, status);
         
         try {
             List<GuestResponse> guests = guestService.getGuestsByUserIdAndStatus(user_id, status);
             
-            log.info("✅ [API 요청 성공] GET /appointments/guests/user/{}/status/{} - user_id: {}, status: {}, 게스트 수: {}", 
-                    user_id, status, user_id, status, guests.size());
+            if (log.isDebugEnabled()) {
+                log.debug("✅ [API 요청 성공] GET /appointments/guests/user/{}/status/{} - 게스트 수: {}",
+                        user_id, status, guests.size());
+            }
             
             return ResponseEntity.ok(guests);
             
         } catch (Exception e) {
-            log.error("💥 [API 요청 실패] GET /appointments/guests/user/{}/status/{} - user_id: {}, status: {}, error: {}", 
-                    user_id, status, user_id, status, e.getMessage(), e);
+            log.error("💥 [API 요청 실패] GET /appointments/guests/user/{}/status/{} - error: {}",
+                    user_id, status, e.getMessage(), e);
             
             return ResponseEntity.status(500).body(List.of());
         }
     }
 
+    // 참가자 상태 일괄 변경 (호스트만 가능, guest_ids 또는 from_status로 대상 지정)
+    @PatchMapping("/{appointment_id}/guests/guest_status")
+    public ResponseEntity<Object> updateGuestStatuses(
+            @PathVariable String appointment_id,
+            @RequestBody GuestStatusBatchRequest request,
+            @RequestHeader(value = "X-User-ID", required = false) String userId) {
+        
+        if (userId == null) {
+            return ResponseEntity.status(400).body(Map.of(
+                "error", "X-User-ID 헤더가 필요합니다",
+                "appointment_id", appointment_id
+            ));
+        }
+        try {
+            guestService.validateStatusBatchRequest(request);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+        
+        // AppointmentService 약속 조회와 UserService 요청자 조회를 동시에 수행
+        Tuple2<Optional<AppointmentResponse>, Optional<UserResponse>> lookups = Mono.zip(
+                appointmentServiceClient.lookupAppointment(appointment_id),
+                userServiceClient.lookupUser(userId))
+                .block();
+        if (lookups.getT1().isEmpty()) {
+            return ResponseEntity.status(404).body(Map.of("error", "약속을 찾을 수 없습니다"));
+        }
+        
+        try {
+            if (lookups.getT2().isEmpty()) {
+                throw new RuntimeException("요청한 사용자를 찾을 수 없습니다. User ID: " + userId);
+            }
+            GuestStatusBatchResponse response =
+                    guestService.updateGuestStatuses(appointment_id, lookups.getT1().get(), request, userId);
+            return ResponseEntity.ok(Map.of(
+                "success", true,
+                "message", "참가자 상태 일괄 변경 완료",
+                "data", response
+            ));
+        } catch (RuntimeException e) {
+            String message = e.getMessage();
+            log.error("💥 [API 요청 실패] PATCH /appointments/{}/guests/guest_status - userId: {}, error: {}",
+                    appointment_id, userId, message, e);
+            int status = e instanceof DownstreamUnavailableException ? 503
+                    : message != null && message.contains("호스트가 아닌 사용자") ? 403 : 400;
+            return ResponseEntity.status(status).body(Map.of(
+                "success", false,
+                "error", String.valueOf(message),
+                "appointment_id", appointment_id
+            ));
+        }
+    }
+
     // 참가자 상태 변경
     @PatchMapping("/{appointment_id}/guests/{guest_id}/guest_status")
     public ResponseEntity<Object> updateGuestStatus(
@@ -219,8 +446,10 @@ public class GuestController {
             @RequestBody GuestRequest request,
             @RequestHeader(value = "X-User-ID", required = false) String userId) {
         
-        log.info("🚀 [API 요청 시작] PATCH /appointments/{}/guests/{}/guest_status - appointment_id: {}, guest_id: {}, userId: {}, newStatus: {}", 
-                appointment_id, appointment_id, guest_id, appointment_id, guest_id, userId, request.getGuest_status());
+        if (log.isDebugEnabled()) {
+            log.debug("🚀 [API 요청 시작] PATCH /appointments/{}/guests/{}/guest_status - userId: {}, newStatus: {}",
+                    appointment_id, guest_id, userId, request.getGuest_status());
+        }
         
         try {
             // AppointmentService에서 약속 존재 여부 확인
@@ -230,7 +459,7 @@ public class GuestController {
             
             // userId가 없으면 에러 발생
             if (userId == null) {
-                log.error("❌ [API 요청 실패] X-User-ID 헤더가 누락됨 - appointment_id: {}, guest_id: {}", appointment_id, guest_id);
+                log.warn("❌ [API 요청 실패] X-User-ID 헤더가 누락됨 - appointment_id: {}, guest_id: {}", appointment_id, guest_id);
                 return ResponseEntity.status(400).body(Map.of(
                     "error", "X-User-ID 헤더가 필요합니다",
                     "appointment_id", appointment_id,
@@ -244,12 +473,12 @@ public class GuestController {
                 throw new RuntimeException("요청한 사용자를 찾을 수 없습니다. User ID: " + userId);
             }
             
-            log.info("🔍 [Guest Service] 상태 변경 시작 - appointment_id: {}, guest_id: {}, userId: {}", appointment_id, guest_id, userId);
-            
             GuestResponse response = guestService.updateGuestStatus(appointment_id, guest_id, request, userId);
             
-            log.info("✅ [API 요청 성공] PATCH /appointments/{}/guests/{}/guest_status - appointment_id: {}, guest_id: {}, newStatus: {}", 
-                    appointment_id, appointment_id, guest_id, appointment_id, guest_id, response.getGuest_status());
+            if (log.isDebugEnabled()) {
+                log.debug("✅ [API 요청 성공] PATCH /appointments/{}/guests/{}/guest_status - newStatus: {}",
+                        appointment_id, guest_id, response.getGuest_status());
+            }
             
             return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -259,10 +488,17 @@ public class GuestController {
             
         } catch (RuntimeException e) {
             String message = e.getMessage();
-            log.error("💥 [API 요청 실패] PATCH /appointments/{}/guests/{}/guest_status - appointment_id: {}, guest_id: {}, userId: {}, error: {}", 
-                    appointment_id, appointment_id, guest_id, appointment_id, guest_id, userId, message, e);
+            log.error("💥 [API 요청 실패] PATCH /appointments/{}/guests/{}/guest_status - userId: {}, error: {}",
+                    appointment_id, guest_id, userId, message, e);
             
-            if (message.contains("호스트가 아닌 사용자")) {
+            if (e instanceof DownstreamUnavailableException) {
+                return ResponseEntity.status(503).body(Map.of(
+                    "success", false,
+                    "error", message,
+                    "appointment_id", appointment_id,
+                    "guest_id", guest_id
+                ));
+            } else if (message.contains("호스트가 아닌 사용자")) {
                 return ResponseEntity.status(403).body(Map.of(
                     "success", false,
                     "error", message,
@@ -279,4 +515,23 @@ public class GuestController {
             }
         }
     }
+
+    /**
+     * 페이지 단위로 조회하면서 한 줄에 하나씩 JSON으로 기록
+     * 페이지마다 짧은 읽기 트랜잭션을 사용하므로 결과 크기와 관계없이 메모리/커넥션 점유가 일정함
+     */
+    private StreamingResponseBody ndjson(Function<String, GuestPageResponse> pageLoader) {
+        return out -> {
+            String cursor = null;
+            do {
+                GuestPageResponse page = pageLoader.apply(cursor);
+                for (GuestResponse guest : page.getData()) {
+                    out.write(objectMapper.writeValueAsBytes(guest));
+                    out.write('\n');
+                }
+                out.flush();
+                cursor = page.getNext_cursor();
+            } while (cursor != null);
+        };
+    }
 }
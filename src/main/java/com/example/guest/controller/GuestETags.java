@@ -0,0 +1,55 @@
+package com.example.guest.controller;
+
+import com.example.guest.repository.GuestListVersion;
+import com.example.guest.repository.GuestStatusVersion;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 참가자 조회 응답의 strong ETag
+ * - 목록: 참가자 수 + 마지막 updated_at
+ *   전체 목록과 페이지 조회가 같은 값을 쓰며 cursor/size는 ETag에 넣지 않음
+ *   (ETag는 요청 URL별로 비교되므로 쿼리 파라미터가 다른 응답끼리 섞이지 않음)
+ * - 상태: 해당 참가자의 updated_at
+ * updated_at은 DATETIME(6)이므로 마이크로초 단위로 표현
+ * 응답은 Cache-Control: no-cache로 보내 클라이언트가 매번 If-None-Match로 재검증하도록 함
+ */
+final class GuestETags {
+
+    private GuestETags() {
+    }
+
+    static String list(GuestListVersion version) {
+        return "\"l-" + version.count() + '-' + micros(version.lastUpdatedAt()) + '"';
+    }
+
+    static String status(GuestStatusVersion version) {
+        return "\"s-" + micros(version.updatedAt()) + '"';
+    }
+
+    /**
+     * 200 응답 builder (ETag, Cache-Control 포함)
+     */
+    static ResponseEntity.BodyBuilder ok(String etag) {
+        return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache());
+    }
+
+    /**
+     * 304 응답 (본문 없음)
+     */
+    static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(CacheControl.noCache()).build();
+    }
+
+    private static long micros(LocalDateTime time) {
+        if (time == null) {
+            return 0;
+        }
+        return ChronoUnit.MICROS.between(LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC), time);
+    }
+}
@@ -0,0 +1,436 @@
+package com.example.guest.controller;
+
+import com.example.guest.client.AppointmentServiceClient;
+import com.example.guest.client.DownstreamUnavailableException;
+import com.example.guest.client.UserServiceClient;
+import com.example.guest.dto.AppointmentResponse;
+import com.example.guest.dto.request.GuestBatchRequest;
+import com.example.guest.dto.request.GuestRequest;
+import com.example.guest.dto.request.GuestStatusBatchRequest;
+import com.example.guest.dto.response.GuestEventResponse;
+import com.example.guest.dto.response.GuestPageResponse;
+import com.example.guest.dto.response.GuestResponse;
+import com.example.guest.dto.response.GuestSummaryResponse;
+import com.example.guest.service.GuestService;
+import com.example.guest.service.event.GuestEventHub;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * reactive 프로파일 전용 컨트롤러 (GuestController와 동일한 API)
+ * - 다운스트림 조회는 WebClient로 논블로킹 합성
+ * - GuestService(JPA) 호출은 jpaScheduler에서 실행
+ */
+@RestController
+@RequestMapping("/appointments")
+@CrossOrigin(origins = "*")
+@Profile("reactive")
+@Slf4j
+public class ReactiveGuestController {
+
+    private final GuestService guestService;
+
+    private final UserServiceClient userServiceClient;
+
+    private final AppointmentServiceClient appointmentServiceClient;
+
+    private final GuestEventHub guestEventHub;
+
+    private final Scheduler jpaScheduler;
+
+    private final int streamChunkSize;
+
+    private final int userLookupConcurrency;
+
+    private final int appointmentLookupConcurrency;
+
+    public ReactiveGuestController(GuestService guestService,
+                                   UserServiceClient userServiceClient,
+                                   AppointmentServiceClient appointmentServiceClient,
+                                   GuestEventHub guestEventHub,
+                                   @Qualifier("jpaScheduler") Scheduler jpaScheduler,
+                                   @Value("${app.pagination.max-size:500}") int streamChunkSize,
+                                   @Value("${services.user.batch-lookup-concurrency:32}") int userLookupConcurrency,
+                                   @Value("${services.appointment.batch-lookup-concurrency:16}") int appointmentLookupConcurrency) {
+        this.guestService = guestService;
+        this.userServiceClient = userServiceClient;
+        this.appointmentServiceClient = appointmentServiceClient;
+        this.guestEventHub = guestEventHub;
+        this.jpaScheduler = jpaScheduler;
+        this.streamChunkSize = streamChunkSize;
+        this.userLookupConcurrency = userLookupConcurrency;
+        this.appointmentLookupConcurrency = appointmentLookupConcurrency;
+    }
+
+    // 전체 약속 목록 조회 (Appointment Service 의존)
+    @GetMapping
+    public Mono<ResponseEntity<Map<String, Object>>> getAllAppointments() {
+        return appointmentServiceClient.findAllAppointments()
+                .defaultIfEmpty(List.of())
+                .onErrorMap(e -> new RuntimeException("약속 목록 조회에 실패했습니다: " + e.getMessage()))
+                .map(appointments -> ResponseEntity.ok(Map.<String, Object>of(
+                    "success", true,
+                    "message", "전체 약속 목록 조회 성공",
+                    "data", appointments,
+                    "count", appointments.size()
+                )));
+    }
+
+    // 약속 상세 조회 (Appointment Service 의존)
+    @GetMapping("/{appointment_id}")
+    public Mono<ResponseEntity<Map<String, Object>>> getAppointment(@PathVariable String appointment_id) {
+        return appointmentServiceClient.lookupAppointment(appointment_id)
+                .map(appointment -> appointment
+                        .map(found -> ResponseEntity.ok(Map.<String, Object>of(
+                            "success", true,
+                            "message", "약속 상세 조회 성공",
+                            "data", found
+                        )))
+                        .orElseGet(() -> ResponseEntity.status(404).body(Map.<String, Object>of(
+                            "success", false,
+                            "message", "약속을 찾을 수 없습니다",
+                            "appointment_id", appointment_id
+                        ))));
+    }
+
+    // 약속 guest 등록 (약속/사용자 검증을 동시에 수행)
+    @PostMapping("/{appointment_id}/guests")
+    public Mono<ResponseEntity<GuestResponse>> createGuest(
+            @PathVariable String appointment_id,
+            @RequestBody GuestRequest request) {
+        return Mono.zip(appointmentServiceClient.lookupAppointment(appointment_id),
+                        userServiceClient.lookupUser(request.getUser_id()))
+                .flatMap(checks -> {
+                    if (checks.getT1().isEmpty()) {
+                        return Mono.error(new RuntimeException("약속을 찾을 수 없습니다. Appointment ID: " + appointment_id));
+                    }
+                    if (checks.getT2().isEmpty()) {
+                        return Mono.error(new RuntimeException("사용자를 찾을 수 없습니다. User ID: " + request.getUser_id()));
+                    }
+                    AppointmentResponse appointment = checks.getT1().get();
+                    return onJpaScheduler(() -> guestService.createGuest(appointment_id, appointment, request));
+                })
+                .map(ResponseEntity::ok);
+    }
+
+    // 약속 guest 일괄 등록 (약속 검증 1회, 사용자 동시 조회, batch INSERT)
+    @PostMapping("/{appointment_id}/guests/batch")
+    public Mono<ResponseEntity<Object>> createGuests(
+            @PathVariable String appointment_id,
+            @RequestBody GuestBatchRequest request) {
+        return Mono.fromRunnable(() -> guestService.validateBatchRequest(request))
+                .then(Mono.defer(() -> Mono.zip(appointmentServiceClient.lookupAppointment(appointment_id),
+                        userServiceClient.lookupUsers(request.getUser_ids(), userLookupConcurrency))))
+                .flatMap(checks -> {
+                    if (checks.getT1().isEmpty()) {
+                        return Mono.error(new RuntimeException("약속을 찾을 수 없습니다. Appointment ID: " + appointment_id));
+                    }
+                    AppointmentResponse appointment = checks.getT1().get();
+                    return onJpaScheduler(() -> guestService.createGuests(appointment_id, appointment, request, checks.getT2()));
+                })
+                .flatMap(response -> respond(200, response))
+                .onErrorResume(IllegalArgumentException.class, e -> respond(400, Map.of("error", e.getMessage())));
+    }
+
+    // 약속 guest 전체 조회 (cursor 또는 size를 주면 keyset 페이지 단위로 조회)
+    @GetMapping("/{appointment_id}/guests")
+    public Mono<ResponseEntity<Object>> getGuests(
+            @PathVariable String appointment_id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            ServerWebExchange exchange) {
+        return appointmentServiceClient.lookupAppointment(appointment_id)
+                .flatMap(appointment -> {
+                    if (appointment.isEmpty()) {
+                        return Mono.error(new RuntimeException("약속을 찾을 수 없습니다. Appointment ID: " + appointment_id));
+                    }
+                    return onJpaScheduler(() -> GuestETags.list(guestService.getGuestListVersion(appointment_id)));
+                })
+                .flatMap(etag -> {
+                    // If-None-Match가 현재 버전과 같으면 목록 조회/직렬화 없이 304
+                    if (exchange.checkNotModified(etag)) {
+                        return Mono.just(GuestETags.<Object>notModified(etag));
+                    }
+                    Callable<Object> load = cursor == null && size == null
+                            ? () -> guestService.getGuests(appointment_id)
+                            : () -> guestService.getGuestPage(appointment_id, cursor, size);
+                    return onJpaScheduler(load).map(body -> GuestETags.ok(etag).body(body));
+                })
+                .onErrorResume(IllegalArgumentException.class, e -> respond(400, Map.of("error", e.getMessage())));
+    }
+
+    // 여러 약속의 guest 목록 조회 (약속 확인은 캐시 우선 동시 조회, 참가자는 IN 쿼리 1회)
+    @GetMapping("/guests")
+    public Mono<ResponseEntity<Object>> getGuestsByAppointments(
+            @RequestParam(required = false) List<String> appointment_ids) {
+        return Mono.fromCallable(() -> guestService.validateAppointmentIds(appointment_ids))
+                .flatMap(appointmentIds -> appointmentServiceClient.lookupAppointments(appointmentIds, appointmentLookupConcurrency)
+                        .map(found -> appointmentIds.stream().collect(Collectors.partitioningBy(found::contains))))
+                .flatMap(checked -> onJpaScheduler(() -> guestService.getGuestsByAppointmentIds(checked.get(true), checked.get(false))))
+                .flatMap(response -> respond(200, response))
+                .onErrorResume(IllegalArgumentException.class, e -> respond(400, Map.of("error", e.getMessage())));
+    }
+
+    // 약속 guest 전체 조회 - NDJSON 스트리밍 (Accept: application/x-ndjson)
+    @GetMapping(value = "/{appointment_id}/guests", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<GuestResponse> streamGuests(@PathVariable String appointment_id) {
+        return appointmentServiceClient.lookupAppointment(appointment_id)
+                .flatMapMany(appointment -> {
+                    if (appointment.isEmpty()) {
+                        return Flux.error(new RuntimeException("약속을 찾을 수 없습니다. Appointment ID: " + appointment_id));
+                    }
+                    return pages(cursor -> guestService.getGuestPage(appointment_id, cursor, streamChunkSize));
+                });
+    }
+
+    // 참가자 등록/상태 변경/삭제 이벤트 구독 (SSE, 구독자는 이벤트 루프 스레드를 점유하지 않음)
+    @GetMapping(value = "/{appointment_id}/guests/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<GuestEventResponse>> streamGuestEvents(@PathVariable String appointment_id) {
+        return appointmentServiceClient.lookupAppointment(appointment_id)
+                .flatMapMany(appointment -> {
+                    if (appointment.isEmpty()) {
+                        return Flux.error(new RuntimeException("약속을 찾을 수 없습니다. Appointment ID: " + appointment_id));
+                    }
+                    return guestEventHub.subscribe(appointment_id);
+                });
+    }
+
+    // 약속 참가자 상태별 인원 (요약 테이블 조회 1회, 참가자 목록을 읽지 않음)
+    @GetMapping("/{appointment_id}/guests/summary")
+    public Mono<ResponseEntity<GuestSummaryResponse>> getGuestSummary(@PathVariable String appointment_id) {
+        return appointmentServiceClient.lookupAppointment(appointment_id)
+                .flatMap(appointment -> {
+                    if (appointment.isEmpty()) {
+                        return Mono.error(new RuntimeException("약속을 찾을 수 없습니다. Appointment ID: " + appointment_id));
+                    }
+                    return onJpaScheduler(() -> guestService.getGuestSummary(appointment_id));
+                })
+                .map(ResponseEntity::ok);
+    }
+
+    // 약속 개별 조회
+    @GetMapping("/{appointment_id}/guests/{guest_id}")
+    public Mono<ResponseEntity<GuestResponse>> getGuest(@PathVariable String appointment_id, @PathVariable String guest_id) {
+        return onJpaScheduler(() -> guestService.getGuest(appointment_id, guest_id))
+                .map(ResponseEntity::ok);
+    }
+
+    // 참가 취소
+    @DeleteMapping("/{appointment_id}/guests/{guest_id}")
+    public Mono<ResponseEntity<Map<String, Object>>> deleteGuest(
+            @PathVariable String appointment_id,
+            @PathVariable String guest_id) {
+        return appointmentServiceClient.lookupAppointment(appointment_id)
+                .flatMap(appointment -> {
+                    if (appointment.isEmpty()) {
+                        return Mono.just(ResponseEntity.status(404).body(Map.<String, Object>of(
+                            "message", "약속을 찾을 수 없습니다",
+                            "appointment_id", appointment_id,
+                            "success", false
+                        )));
+                    }
+                    return onJpaScheduler(() -> guestService.deleteGuest(appointment_id, guest_id))
+                            .map(deleted -> ResponseEntity.ok(Map.<String, Object>of(
+                                "message", deleted ? "참가 취소 완료" : "참가 취소 실패",
+                                "appointment_id", appointment_id,
+                                "guest_id", guest_id,
+                                "success", deleted
+                            )));
+                });
+    }
+
+    // 참가자 상태 조회 (상태만 String으로 반환)
+    @GetMapping("/{appointment_id}/guests/{guest_id}/guest_status")
+    public Mono<ResponseEntity<Map<String, Object>>> getGuestStatus(
+            @PathVariable String appointment_id,
+            @PathVariable String guest_id,
+            ServerWebExchange exchange) {
+        return onJpaScheduler(() -> guestService.findGuestStatusVersion(appointment_id, guest_id))
+                .flatMap(version -> {
+                    // 없거나 다른 약속의 참가자면 getGuestStatus로 기존 오류 응답
+                    if (version.isEmpty()) {
+                        return onJpaScheduler(() -> guestService.getGuestStatus(appointment_id, guest_id))
+                                .map(status -> ResponseEntity.ok(Map.<String, Object>of("guest_status", status)));
+                    }
+                    String etag = GuestETags.status(version.get());
+                    if (exchange.checkNotModified(etag)) {
+                        return Mono.just(GuestETags.<Map<String, Object>>notModified(etag));
+                    }
+                    return Mono.just(GuestETags.ok(etag).body(Map.<String, Object>of("guest_status", version.get().guestStatus())));
+                })
+                .onErrorResume(e -> {
+                    log.error("💥 [API 요청 실패] GET /appointments/{}/guests/{}/guest_status - error: {}",
+                            appointment_id, guest_id, e.getMessage(), e);
+                    return Mono.just(ResponseEntity.status(400).body(Map.<String, Object>of(
+                        "error", e.getMessage(),
+                        "appointment_id", appointment_id,
+                        "guest_id", guest_id
+                    )));
+                });
+    }
+
+    // 특정 사용자가 참여한 모든 게스트 정보 조회 (cursor 또는 size를 주면 keyset 페이지 단위로 조회)
+    @GetMapping("/guests/user/{user_id}")
+    public Mono<ResponseEntity<Object>> getGuestsByUserId(
+            @PathVariable String user_id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        if (cursor != null || size != null) {
+            return onJpaScheduler(() -> guestService.getGuestPageByUserId(user_id, cursor, size))
+                    .flatMap(page -> respond(200, page))
+                    .onErrorResume(IllegalArgumentException.class, e -> respond(400, Map.of("error", e.getMessage())));
+        }
+        return onJpaScheduler(() -> guestService.getGuestsByUserId(user_id))
+                .flatMap(guests -> respond(200, guests))
+                .onErrorResume(e -> {
+                    log.error("💥 [API 요청 실패] GET /appointments/guests/user/{} - error: {}", user_id, e.getMessage(), e);
+                    return respond(500, List.<GuestResponse>of());
+                });
+    }
+
+    // 특정 사용자가 참여한 모든 게스트 정보 조회 - NDJSON 스트리밍 (Accept: application/x-ndjson)
+    @GetMapping(value = "/guests/user/{user_id}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<GuestResponse> streamGuestsByUserId(@PathVariable String user_id) {
+        return pages(cursor -> guestService.getGuestPageByUserId(user_id, cursor, streamChunkSize));
+    }
+
+    // 특정 사용자의 특정 상태 게스트 정보 조회
+    @GetMapping("/guests/user/{user_id}/status/{status}")
+    public Mono<ResponseEntity<List<GuestResponse>>> getGuestsByUserIdAndStatus(
+            @PathVariable String user_id,
+            @PathVariable String status) {
+        return onJpaScheduler(() -> guestService.getGuestsByUserIdAndStatus(user_id, status))
+                .map(ResponseEntity::ok)
+                .onErrorResume(e -> {
+                    log.error("💥 [API 요청 실패] GET /appointments/guests/user/{}/status/{} - error: {}",
+                            user_id, status, e.getMessage(), e);
+                    return Mono.just(ResponseEntity.status(500).body(List.<GuestResponse>of()));
+                });
+    }
+
+    // 참가자 상태 일괄 변경 (호스트만 가능, guest_ids 또는 from_status로 대상 지정)
+    @PatchMapping("/{appointment_id}/guests/guest_status")
+    public Mono<ResponseEntity<Object>> updateGuestStatuses(
+            @PathVariable String appointment_id,
+            @RequestBody GuestStatusBatchRequest request,
+            @RequestHeader(value = "X-User-ID", required = false) String userId) {
+        if (userId == null) {
+            return respond(400, Map.of(
+                "error", "X-User-ID 헤더가 필요합니다",
+                "appointment_id", appointment_id
+            ));
+        }
+        return Mono.fromRunnable(() -> guestService.validateStatusBatchRequest(request))
+                .then(Mono.defer(() -> Mono.zip(appointmentServiceClient.lookupAppointment(appointment_id),
+                        userServiceClient.lookupUser(userId))))
+                .flatMap(checks -> {
+                    if (checks.getT1().isEmpty()) {
+                        return respond(404, Map.of("error", "약속을 찾을 수 없습니다"));
+                    }
+                    if (checks.getT2().isEmpty()) {
+                        return Mono.error(new RuntimeException("요청한 사용자를 찾을 수 없습니다. User ID: " + userId));
+                    }
+                    AppointmentResponse appointment = checks.getT1().get();
+                    return onJpaScheduler(() -> guestService.updateGuestStatuses(appointment_id, appointment, request, userId))
+                            .flatMap(response -> respond(200, Map.of(
+                                "success", true,
+                                "message", "참가자 상태 일괄 변경 완료",
+                                "data", response
+                            )));
+                })
+                .onErrorResume(RuntimeException.class, e -> {
+                    String message = e.getMessage();
+                    log.error("💥 [API 요청 실패] PATCH /appointments/{}/guests/guest_status - userId: {}, error: {}",
+                            appointment_id, userId, message, e);
+                    int status = e instanceof DownstreamUnavailableException ? 503
+                            : message != null && message.contains("호스트가 아닌 사용자") ? 403 : 400;
+                    return respond(status, Map.of(
+                        "success", false,
+                        "error", String.valueOf(message),
+                        "appointment_id", appointment_id
+                    ));
+                });
+    }
+
+    // 참가자 상태 변경
+    @PatchMapping("/{appointment_id}/guests/{guest_id}/guest_status")
+    public Mono<ResponseEntity<Object>> updateGuestStatus(
+            @PathVariable String appointment_id,
+            @PathVariable String guest_id,
+            @RequestBody GuestRequest request,
+            @RequestHeader(value = "X-User-ID", required = false) String userId) {
+        return appointmentServiceClient.lookupAppointment(appointment_id)
+                .flatMap(appointment -> {
+                    if (appointment.isEmpty()) {
+                        return respond(404, Map.of("error", "약속을 찾을 수 없습니다"));
+                    }
+                    if (userId == null) {
+                        return respond(400, Map.of(
+                            "error", "X-User-ID 헤더가 필요합니다",
+                            "appointment_id", appointment_id,
+                            "guest_id", guest_id
+                        ));
+                    }
+                    return userServiceClient.lookupUser(userId)
+                            .flatMap(user -> {
+                                if (user.isEmpty()) {
+                                    return Mono.error(new RuntimeException("요청한 사용자를 찾을 수 없습니다. User ID: " + userId));
+                                }
+                                return onJpaScheduler(() -> guestService.updateGuestStatus(appointment_id, guest_id, request, userId));
+                            })
+                            .flatMap(response -> respond(200, Map.of(
+                                "success", true,
+                                "message", "참가자 상태 변경 완료",
+                                "data", response
+                            )));
+                })
+                .onErrorResume(RuntimeException.class, e -> {
+                    String message = e.getMessage();
+                    log.error("💥 [API 요청 실패] PATCH /appointments/{}/guests/{}/guest_status - userId: {}, error: {}",
+                            appointment_id, guest_id, userId, message, e);
+                    int status = e instanceof DownstreamUnavailableException ? 503
+                            : message != null && message.contains("호스트가 아닌 사용자") ? 403 : 400;
+                    return respond(status, Map.of(
+                        "success", false,
+                        "error", String.valueOf(message),
+                        "appointment_id", appointment_id,
+                        "guest_id", guest_id
+                    ));
+                });
+    }
+
+    /**
+     * 다음 페이지는 이전 페이지가 소비된 뒤 조회 (concatMap 순서 유지, 한 번에 한 페이지만 메모리에 유지)
+     */
+    private Flux<GuestResponse> pages(Function<String, GuestPageResponse> pageLoader) {
+        return onJpaScheduler(() -> pageLoader.apply(null))
+                .expand(page -> page.isHas_next()
+                        ? onJpaScheduler(() -> pageLoader.apply(page.getNext_cursor()))
+                        : Mono.empty())
+                .concatMapIterable(GuestPageResponse::getData, 1);
+    }
+
+    private <T> Mono<T> onJpaScheduler(Callable<T> call) {
+        return Mono.fromCallable(call).subscribeOn(jpaScheduler);
+    }
+
+    private static Mono<ResponseEntity<Object>> respond(int status, Object body) {
+        return Mono.just(ResponseEntity.status(status).body(body));
+    }
+}
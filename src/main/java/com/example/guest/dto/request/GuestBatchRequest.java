@@ -0,0 +1,16 @@
+package com.example.guest.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GuestBatchRequest {
+
+    private List<String> user_ids;
+    private String guest_status;  // 모든 참가자에 동일하게 적용 (기본값 coming)
+}
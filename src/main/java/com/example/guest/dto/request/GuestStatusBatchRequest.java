@@ -0,0 +1,21 @@
+package com.example.guest.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 참가자 상태 일괄 변경 요청
+ * 대상은 guest_ids 또는 from_status(약속 내 해당 상태인 참가자 전체) 중 하나로 지정
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GuestStatusBatchRequest {
+
+    private List<String> guest_ids;
+    private String from_status;
+    private String guest_status;  // 변경할 상태
+}
@@ -0,0 +1,28 @@
+package com.example.guest.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일괄 등록 항목별 결과
+ * result: created | already_joined | duplicate_in_request | user_not_found | host | invalid
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GuestBatchItemResponse {
+
+    public static final String CREATED = "created";
+    public static final String ALREADY_JOINED = "already_joined";
+    public static final String DUPLICATE_IN_REQUEST = "duplicate_in_request";
+    public static final String USER_NOT_FOUND = "user_not_found";
+    public static final String HOST = "host";
+    public static final String INVALID = "invalid";
+
+    private String user_id;
+    private String result;
+    private GuestResponse guest;  // created인 경우에만 존재
+}
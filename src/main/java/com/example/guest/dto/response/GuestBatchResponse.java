@@ -0,0 +1,20 @@
+package com.example.guest.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GuestBatchResponse {
+
+    private String appointment_id;
+    private int requested;
+    private int created;
+    private List<GuestBatchItemResponse> results;  // 요청한 user_ids 순서
+}
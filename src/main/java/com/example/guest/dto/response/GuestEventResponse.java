@@ -0,0 +1,27 @@
+package com.example.guest.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 참가자 변경 SSE 이벤트 본문 (GET /appointments/{id}/guests/events)
+ * type: created | status_changed | deleted
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GuestEventResponse {
+
+    private String type;
+    private String appointment_id;
+    private String guest_id;
+    private String user_id;
+    private String guest_status;
+    private String previous_status;
+    private LocalDateTime occurred_at;
+}
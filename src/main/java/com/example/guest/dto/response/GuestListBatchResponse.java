@@ -0,0 +1,22 @@
+package com.example.guest.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 여러 약속의 참가자 목록 (GET /appointments/guests?appointment_ids=...)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GuestListBatchResponse {
+
+    private Map<String, List<GuestResponse>> data;   // appointment_id → 참가자 목록 (요청 순서, 참가자가 없으면 빈 목록)
+    private List<String> not_found;                  // Appointment Service에 없는 약속
+}
@@ -0,0 +1,23 @@
+package com.example.guest.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 참가자 목록 페이지 (created_at, guest_id 순 keyset 페이지네이션)
+ * next_cursor를 다음 요청의 cursor 파라미터로 전달, 마지막 페이지면 null
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GuestPageResponse {
+
+    private List<GuestResponse> data;
+    private String next_cursor;
+    private boolean has_next;
+}
@@ -0,0 +1,21 @@
+package com.example.guest.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GuestStatusBatchResponse {
+
+    private String appointment_id;
+    private String guest_status;
+    private int updated;
+    private List<GuestResponse> data;     // 변경된 참가자 (변경 후 값)
+    private List<String> not_found;       // guest_ids 중 이 약속에 없는 참가자
+}
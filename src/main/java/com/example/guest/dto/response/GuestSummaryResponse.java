@@ -0,0 +1,23 @@
+package com.example.guest.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 약속 참가자 상태별 인원 (GET /appointments/{id}/guests/summary)
+ * counts: guest_status → 인원 (0명인 상태는 제외)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GuestSummaryResponse {
+
+    private String appointment_id;
+    private long total;
+    private Map<String, Long> counts;
+}
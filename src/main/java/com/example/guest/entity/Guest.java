@@ -8,13 +8,33 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
+/**
+ * 스키마는 db/migration(Flyway)이 관리하며, 아래 인덱스 정의는 마이그레이션과 동일하게 유지
+ * - uk_guests_appointment_user: 중복 참가 방지 + appointment_id 조회
+ * - idx_guests_appointment_status: 약속별 상태 조회
+ * - idx_guests_user_status: 사용자별 (상태) 조회
+ * - idx_guests_appointment_created, idx_guests_user_created: 목록 keyset 페이지네이션
+ * - idx_guests_appointment_updated: 목록 ETag (참가자 수, 마지막 변경 시각)
+ */
 @Entity
-@Table(name = "guests")
+@Table(
+    name = "guests",
+    uniqueConstraints = @UniqueConstraint(name = Guest.UNIQUE_APPOINTMENT_USER, columnNames = {"appointment_id", "user_id"}),
+    indexes = {
+        @Index(name = "idx_guests_appointment_status", columnList = "appointment_id, guest_status"),
+        @Index(name = "idx_guests_user_status", columnList = "user_id, guest_status"),
+        @Index(name = "idx_guests_appointment_created", columnList = "appointment_id, created_at, guest_id"),
+        @Index(name = "idx_guests_user_created", columnList = "user_id, created_at, guest_id"),
+        @Index(name = "idx_guests_appointment_updated", columnList = "appointment_id, updated_at")
+    }
+)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Guest {
+
+    public static final String UNIQUE_APPOINTMENT_USER = "uk_guests_appointment_user";
     
     @Id
     @Column(name = "guest_id")
@@ -0,0 +1,17 @@
+package com.example.guest.repository;
+
+import com.example.guest.entity.Guest;
+
+import java.util.List;
+
+/**
+ * GuestRepository 확장: 대량 INSERT
+ */
+public interface GuestBatchRepository {
+
+    /**
+     * 새 Guest들을 JDBC batch INSERT로 저장 (hibernate.jdbc.batch_size 단위로 flush)
+     * save()와 달리 존재 여부 SELECT(merge)를 하지 않으므로 새 엔티티에만 사용
+     */
+    void insertAll(List<Guest> guests);
+}
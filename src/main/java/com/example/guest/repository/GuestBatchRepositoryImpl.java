@@ -0,0 +1,33 @@
+package com.example.guest.repository;
+
+import com.example.guest.entity.Guest;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public class GuestBatchRepositoryImpl implements GuestBatchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:100}")
+    private int batchSize;
+
+    @Override
+    @Transactional
+    public void insertAll(List<Guest> guests) {
+        for (int i = 0; i < guests.size(); i++) {
+            entityManager.persist(guests.get(i));
+            // batch 단위로 INSERT 실행 후 영속성 컨텍스트를 비워 메모리 사용을 일정하게 유지
+            if ((i + 1) % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.guest.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 약속 참가자 목록의 버전 (참가자 수, 마지막 변경 시각)
+ * 등록/상태 변경은 updated_at을, 삭제는 참가자 수를 바꾸므로 목록 ETag 계산에 사용
+ */
+public record GuestListVersion(long count, LocalDateTime lastUpdatedAt) {
+}
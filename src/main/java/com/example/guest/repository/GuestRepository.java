@@ -1,18 +1,23 @@
 package com.example.guest.repository;
 
+import com.example.guest.dto.response.GuestResponse;
 import com.example.guest.entity.Guest;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface GuestRepository extends JpaRepository<Guest, String> {
+public interface GuestRepository extends JpaRepository<Guest, String>, GuestBatchRepository {
 
     /**
      * 약속 ID로 모든 Guest 조회
@@ -21,13 +26,71 @@ public interface GuestRepository extends JpaRepository<Guest, String> {
     List<Guest> findByAppointmentId(@Param("appointmentId") String appointmentId);
 
     /**
-     * Guest 상태 업데이트
+     * Guest 상태 업데이트 (해당 약속의 참가자인 경우에만, 변경된 행 수 반환)
      */
     @Modifying
-    @Query("UPDATE Guest g SET g.guest_status = :newStatus, g.updated_at = :updatedAt WHERE g.guest_id = :guestId")
-    int updateGuestStatus(@Param("guestId") String guestId, 
-                         @Param("newStatus") String newStatus, 
-                         @Param("updatedAt") LocalDateTime updatedAt);
+    @Query("UPDATE Guest g SET g.guest_status = :newStatus, g.updated_at = :updatedAt "
+            + "WHERE g.guest_id = :guestId AND g.appointment_id = :appointmentId")
+    int updateGuestStatus(@Param("appointmentId") String appointmentId,
+                          @Param("guestId") String guestId,
+                          @Param("newStatus") String newStatus,
+                          @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Guest 삭제 (해당 약속의 참가자인 경우에만, 엔티티 로딩 없이 DELETE 1회)
+     */
+    @Modifying
+    @Query("DELETE FROM Guest g WHERE g.guest_id = :guestId AND g.appointment_id = :appointmentId")
+    int deleteByAppointmentIdAndGuestId(@Param("appointmentId") String appointmentId,
+                                        @Param("guestId") String guestId);
+
+    /**
+     * 약속 내 여러 Guest 상태 일괄 업데이트 (set-based UPDATE 1회)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Guest g SET g.guest_status = :newStatus, g.updated_at = :updatedAt "
+            + "WHERE g.appointment_id = :appointmentId AND g.guest_id IN :guestIds")
+    int updateGuestStatusIn(@Param("appointmentId") String appointmentId,
+                            @Param("guestIds") Collection<String> guestIds,
+                            @Param("newStatus") String newStatus,
+                            @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * 약속 내 특정 상태인 Guest 전체 상태 업데이트 (set-based UPDATE 1회)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Guest g SET g.guest_status = :newStatus, g.updated_at = :updatedAt "
+            + "WHERE g.appointment_id = :appointmentId AND g.guest_status = :fromStatus")
+    int updateGuestStatusByStatus(@Param("appointmentId") String appointmentId,
+                                  @Param("fromStatus") String fromStatus,
+                                  @Param("newStatus") String newStatus,
+                                  @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * 상태 일괄 변경 대상 조회 (guest_ids 지정, SELECT ... FOR UPDATE)
+     * MySQL은 UPDATE ... RETURNING이 없으므로 잠근 행으로 변경 후 응답을 구성
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT g FROM Guest g WHERE g.appointment_id = :appointmentId AND g.guest_id IN :guestIds")
+    List<Guest> findForUpdateByAppointmentIdAndGuestIdIn(@Param("appointmentId") String appointmentId,
+                                                         @Param("guestIds") Collection<String> guestIds);
+
+    /**
+     * 상태 일괄 변경 대상 조회 (약속 내 특정 상태 전체, SELECT ... FOR UPDATE)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT g FROM Guest g WHERE g.appointment_id = :appointmentId AND g.guest_status = :guestStatus")
+    List<Guest> findForUpdateByAppointmentIdAndGuestStatus(@Param("appointmentId") String appointmentId,
+                                                           @Param("guestStatus") String guestStatus);
+
+    /**
+     * 단건 상태 변경/삭제 대상 조회 (해당 약속의 참가자인 경우에만, SELECT ... FOR UPDATE)
+     * 변경 전 상태를 잠근 채 확인해 상태별 요약(guest_status_counts)을 정확히 증감
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT g FROM Guest g WHERE g.guest_id = :guestId AND g.appointment_id = :appointmentId")
+    Optional<Guest> findForUpdateByAppointmentIdAndGuestId(@Param("appointmentId") String appointmentId,
+                                                          @Param("guestId") String guestId);
 
     /**
      * Guest 존재 여부 확인 (삭제되지 않은 것만)
@@ -49,6 +112,13 @@ public interface GuestRepository extends JpaRepository<Guest, String> {
     boolean existsByAppointmentIdAndUserId(@Param("appointmentId") String appointmentId, 
                                           @Param("userId") String userId);
 
+    /**
+     * 특정 약속에 이미 참여한 사용자 ID (일괄 등록 중복 체크용, uk_guests_appointment_user 인덱스 사용)
+     */
+    @Query("SELECT g.user_id FROM Guest g WHERE g.appointment_id = :appointmentId AND g.user_id IN :userIds")
+    List<String> findUserIdsByAppointmentIdAndUserIdIn(@Param("appointmentId") String appointmentId,
+                                                       @Param("userIds") Collection<String> userIds);
+
     /**
      * 특정 상태의 Guest들 조회
      */
@@ -70,4 +140,114 @@ public interface GuestRepository extends JpaRepository<Guest, String> {
     
     @Query("SELECT g FROM Guest g WHERE g.user_id = :userId AND g.guest_status = :status")
     List<Guest> findByUserIdAndGuestStatus(@Param("userId") String userId, @Param("status") String status);
+
+    /**
+     * 약속 참가자 목록 버전 (idx_guests_appointment_updated 인덱스만 읽음, 행 로딩 없음)
+     */
+    @Query("SELECT new com.example.guest.repository.GuestListVersion(COUNT(g), MAX(g.updated_at)) "
+            + "FROM Guest g WHERE g.appointment_id = :appointmentId")
+    GuestListVersion findListVersionByAppointmentId(@Param("appointmentId") String appointmentId);
+
+    /**
+     * 참가자 상태와 마지막 변경 시각 (해당 약속의 참가자인 경우에만)
+     */
+    @Query("SELECT new com.example.guest.repository.GuestStatusVersion(g.guest_status, g.updated_at) "
+            + "FROM Guest g WHERE g.guest_id = :guestId AND g.appointment_id = :appointmentId")
+    Optional<GuestStatusVersion> findStatusVersion(@Param("appointmentId") String appointmentId,
+                                                   @Param("guestId") String guestId);
+
+    /*
+     * 목록 조회용 DTO projection
+     * 엔티티를 영속성 컨텍스트에 올리지 않고 쿼리 결과로 GuestResponse를 바로 생성 (스냅샷/dirty checking 없음)
+     */
+
+    /**
+     * 약속 ID로 모든 Guest 조회 (GuestResponse projection)
+     */
+    @Query("SELECT new com.example.guest.dto.response.GuestResponse("
+            + "g.guest_id, g.appointment_id, g.user_id, g.guest_status, g.created_at, g.updated_at) "
+            + "FROM Guest g WHERE g.appointment_id = :appointmentId")
+    List<GuestResponse> findResponsesByAppointmentId(@Param("appointmentId") String appointmentId);
+
+    /**
+     * 약속 참가자 단건 조회 (GuestResponse projection, 해당 약속의 참가자인 경우에만)
+     */
+    @Query("SELECT new com.example.guest.dto.response.GuestResponse("
+            + "g.guest_id, g.appointment_id, g.user_id, g.guest_status, g.created_at, g.updated_at) "
+            + "FROM Guest g WHERE g.guest_id = :guestId AND g.appointment_id = :appointmentId")
+    Optional<GuestResponse> findResponseByAppointmentIdAndGuestId(@Param("appointmentId") String appointmentId,
+                                                                   @Param("guestId") String guestId);
+
+    /**
+     * 여러 약속의 모든 Guest 조회 (GuestResponse projection, 약속 수와 관계없이 쿼리 1회)
+     */
+    @Query("SELECT new com.example.guest.dto.response.GuestResponse("
+            + "g.guest_id, g.appointment_id, g.user_id, g.guest_status, g.created_at, g.updated_at) "
+            + "FROM Guest g WHERE g.appointment_id IN :appointmentIds")
+    List<GuestResponse> findResponsesByAppointmentIdIn(@Param("appointmentIds") Collection<String> appointmentIds);
+
+    /**
+     * 특정 사용자가 참여한 모든 Guest 조회 (GuestResponse projection)
+     */
+    @Query("SELECT new com.example.guest.dto.response.GuestResponse("
+            + "g.guest_id, g.appointment_id, g.user_id, g.guest_status, g.created_at, g.updated_at) "
+            + "FROM Guest g WHERE g.user_id = :userId")
+    List<GuestResponse> findResponsesByUserId(@Param("userId") String userId);
+
+    /**
+     * 특정 사용자의 특정 상태 Guest 조회 (GuestResponse projection)
+     */
+    @Query("SELECT new com.example.guest.dto.response.GuestResponse("
+            + "g.guest_id, g.appointment_id, g.user_id, g.guest_status, g.created_at, g.updated_at) "
+            + "FROM Guest g WHERE g.user_id = :userId AND g.guest_status = :status")
+    List<GuestResponse> findResponsesByUserIdAndGuestStatus(@Param("userId") String userId, @Param("status") String status);
+
+    /*
+     * keyset 페이지네이션 (created_at, guest_id 순)
+     * idx_guests_appointment_created / idx_guests_user_created 인덱스 범위 스캔으로 OFFSET 없이 다음 페이지 조회
+     */
+
+    /**
+     * 약속 참가자 첫 페이지
+     */
+    @Query("SELECT new com.example.guest.dto.response.GuestResponse("
+            + "g.guest_id, g.appointment_id, g.user_id, g.guest_status, g.created_at, g.updated_at) "
+            + "FROM Guest g WHERE g.appointment_id = :appointmentId "
+            + "ORDER BY g.created_at, g.guest_id")
+    List<GuestResponse> findPageByAppointmentId(@Param("appointmentId") String appointmentId, Limit limit);
+
+    /**
+     * 약속 참가자 다음 페이지 (커서 이후)
+     */
+    @Query("SELECT new com.example.guest.dto.response.GuestResponse("
+            + "g.guest_id, g.appointment_id, g.user_id, g.guest_status, g.created_at, g.updated_at) "
+            + "FROM Guest g WHERE g.appointment_id = :appointmentId "
+            + "AND (g.created_at > :createdAt OR (g.created_at = :createdAt AND g.guest_id > :guestId)) "
+            + "ORDER BY g.created_at, g.guest_id")
+    List<GuestResponse> findPageByAppointmentIdAfter(@Param("appointmentId") String appointmentId,
+                                                     @Param("createdAt") LocalDateTime createdAt,
+                                                     @Param("guestId") String guestId,
+                                                     Limit limit);
+
+    /**
+     * 사용자 참여 목록 첫 페이지
+     */
+    @Query("SELECT new com.example.guest.dto.response.GuestResponse("
+            + "g.guest_id, g.appointment_id, g.user_id, g.guest_status, g.created_at, g.updated_at) "
+            + "FROM Guest g WHERE g.user_id = :userId "
+            + "ORDER BY g.created_at, g.guest_id")
+    List<GuestResponse> findPageByUserId(@Param("userId") String userId, Limit limit);
+
+    /**
+     * 사용자 참여 목록 다음 페이지 (커서 이후)
+     */
+    @Query("SELECT new com.example.guest.dto.response.GuestResponse("
+            + "g.guest_id, g.appointment_id, g.user_id, g.guest_status, g.created_at, g.updated_at) "
+            + "FROM Guest g WHERE g.user_id = :userId "
+            + "AND (g.created_at > :createdAt OR (g.created_at = :createdAt AND g.guest_id > :guestId)) "
+            + "ORDER BY g.created_at, g.guest_id")
+    List<GuestResponse> findPageByUserIdAfter(@Param("userId") String userId,
+                                              @Param("createdAt") LocalDateTime createdAt,
+                                              @Param("guestId") String guestId,
+                                              Limit limit);
 }
@@ -0,0 +1,105 @@
+package com.example.guest.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * guest_status_counts (약속별 상태별 참가자 수) 조회/증감
+ * 증감은 (appointment_id, guest_status) 순으로 정렬해 적용 (동시 트랜잭션 간 잠금 순서를 맞춰 교착 방지)
+ */
+@Repository
+public class GuestStatusCountRepository {
+
+    private static final String UPSERT_DELTA_SQL = "INSERT INTO guest_status_counts (appointment_id, guest_status, guest_count) "
+            + "VALUES (?, ?, ?) ON DUPLICATE KEY UPDATE guest_count = guest_count + VALUES(guest_count)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public GuestStatusCountRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 약속의 상태별 참가자 수 (0건인 상태 제외, 상태 이름 순)
+     */
+    public Map<String, Long> findCounts(String appointmentId) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        jdbcTemplate.query("SELECT guest_status, guest_count FROM guest_status_counts "
+                        + "WHERE appointment_id = ? AND guest_count <> 0 ORDER BY guest_status",
+                rs -> {
+                    counts.put(rs.getString("guest_status"), rs.getLong("guest_count"));
+                },
+                appointmentId);
+        return counts;
+    }
+
+    /**
+     * 상태별 증감 적용 (batch 1회)
+     * @param deltas appointmentId → (guestStatus → 증감)
+     */
+    public void applyDeltas(Map<String, ? extends Map<String, Long>> deltas) {
+        List<Object[]> rows = new ArrayList<>();
+        deltas.keySet().stream().sorted().forEach(appointmentId -> deltas.get(appointmentId).entrySet().stream()
+                .filter(delta -> delta.getValue() != 0)
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(delta -> rows.add(new Object[] {appointmentId, delta.getKey(), delta.getValue()})));
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_DELTA_SQL, rows);
+        }
+    }
+
+    /**
+     * 전체 약속의 요약 값 (reconcile 비교용)
+     * @return appointmentId → (guestStatus → 요약 값)
+     */
+    public Map<String, Map<String, Long>> findAllCounts() {
+        return groupCounts("SELECT appointment_id, guest_status, guest_count FROM guest_status_counts WHERE guest_count <> 0");
+    }
+
+    /**
+     * 전체 약속의 실제 참가자 수 (idx_guests_appointment_status 인덱스 스캔, reconcile 비교용)
+     */
+    public Map<String, Map<String, Long>> countAllGuests() {
+        return groupCounts("SELECT appointment_id, guest_status, COUNT(*) AS guest_count FROM guests "
+                + "WHERE guest_status IS NOT NULL GROUP BY appointment_id, guest_status");
+    }
+
+    /**
+     * 한 약속의 요약 행을 잠근 뒤 실제 값과 다르면 교체 (같은 트랜잭션 안에서 호출)
+     * 잠금을 먼저 잡으므로 증감을 적용 중인 트랜잭션이 커밋된 뒤에 다시 센 값과 비교
+     * @return 교체했으면 true
+     */
+    public boolean replaceWithActualCounts(String appointmentId) {
+        Map<String, Long> current = groupCounts("SELECT appointment_id, guest_status, guest_count FROM guest_status_counts "
+                + "WHERE appointment_id = ? FOR UPDATE", appointmentId)
+                .getOrDefault(appointmentId, Map.of());
+        Map<String, Long> actual = groupCounts("SELECT appointment_id, guest_status, COUNT(*) AS guest_count FROM guests "
+                + "WHERE appointment_id = ? AND guest_status IS NOT NULL GROUP BY appointment_id, guest_status", appointmentId)
+                .getOrDefault(appointmentId, Map.of());
+        Map<String, Long> nonZero = new LinkedHashMap<>(current);
+        nonZero.values().removeIf(count -> count == 0);
+        if (nonZero.equals(actual)) {
+            return false;
+        }
+        jdbcTemplate.update("DELETE FROM guest_status_counts WHERE appointment_id = ?", appointmentId);
+        jdbcTemplate.batchUpdate("INSERT INTO guest_status_counts (appointment_id, guest_status, guest_count) VALUES (?, ?, ?)",
+                actual.entrySet().stream()
+                        .map(count -> new Object[] {appointmentId, count.getKey(), count.getValue()})
+                        .toList());
+        return true;
+    }
+
+    private Map<String, Map<String, Long>> groupCounts(String sql, Object... args) {
+        Map<String, Map<String, Long>> grouped = new LinkedHashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            grouped.computeIfAbsent(rs.getString("appointment_id"), id -> new LinkedHashMap<>())
+                    .put(rs.getString("guest_status"), rs.getLong("guest_count"));
+        }, args);
+        return grouped;
+    }
+}
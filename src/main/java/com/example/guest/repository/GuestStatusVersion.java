@@ -0,0 +1,9 @@
+package com.example.guest.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 참가자 상태와 마지막 변경 시각 (상태 조회 ETag 계산용)
+ */
+public record GuestStatusVersion(String guestStatus, LocalDateTime updatedAt) {
+}
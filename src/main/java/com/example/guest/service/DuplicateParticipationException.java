@@ -0,0 +1,16 @@
+package com.example.guest.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 같은 약속에 이미 참여 중인 사용자 등록 (uk_guests_appointment_user 위반)
+ * 요청 자체는 올바르지만 현재 상태와 충돌하므로 409로 응답
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class DuplicateParticipationException extends RuntimeException {
+
+    public DuplicateParticipationException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.guest.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 참가자 목록 keyset 페이지 커서 (마지막 행의 created_at, guest_id)
+ * 클라이언트에는 base64url 문자열로만 노출 (형식 변경 가능하도록 불투명하게 유지)
+ */
+record GuestCursor(LocalDateTime createdAt, String guestId) {
+
+    private static final char SEPARATOR = '|';
+
+    String encode() {
+        String raw = createdAt + String.valueOf(SEPARATOR) + guestId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException 디코딩할 수 없는 커서
+     */
+    static GuestCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("잘못된 cursor 값입니다: " + cursor);
+            }
+            return new GuestCursor(LocalDateTime.parse(raw.substring(0, separator)), raw.substring(separator + 1));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 cursor 값입니다: " + cursor, e);
+        }
+    }
+}
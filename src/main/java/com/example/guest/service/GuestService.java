@@ -1,14 +1,34 @@
 package com.example.guest.service;
 
 import com.example.guest.client.AppointmentServiceClient;
+import com.example.guest.client.DownstreamUnavailableException;
 import com.example.guest.dto.AppointmentResponse;
+import com.example.guest.dto.request.GuestBatchRequest;
 import com.example.guest.dto.request.GuestRequest;
+import com.example.guest.dto.request.GuestStatusBatchRequest;
+import com.example.guest.dto.response.GuestBatchItemResponse;
+import com.example.guest.dto.response.GuestBatchResponse;
+import com.example.guest.dto.response.GuestListBatchResponse;
+import com.example.guest.dto.response.GuestPageResponse;
 import com.example.guest.dto.response.GuestResponse;
+import com.example.guest.dto.response.GuestStatusBatchResponse;
+import com.example.guest.dto.response.GuestSummaryResponse;
 import com.example.guest.entity.Guest;
+import com.example.guest.repository.GuestListVersion;
 import com.example.guest.repository.GuestRepository;
+import com.example.guest.repository.GuestStatusCountRepository;
+import com.example.guest.repository.GuestStatusVersion;
+import com.example.guest.service.event.GuestChangedEvent;
+import com.example.guest.service.id.GuestIdGenerator;
+import com.example.guest.service.writebehind.GuestStatusWriteBehind;
+import com.example.guest.service.writebehind.PendingGuestStatus;
+import io.micrometer.core.annotation.Timed;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
@@ -16,13 +36,19 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
 @Transactional
+@Timed(value = "guest.service", description = "GuestService method latency")
 @Slf4j
 public class GuestService {
 
@@ -34,31 +60,45 @@ public class GuestService {
     
     @Autowired
     private AppointmentServiceClient appointmentServiceClient;
+
+    @Autowired
+    private GuestIdGenerator guestIdGenerator;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private GuestStatusWriteBehind statusWriteBehind;
+
+    @Autowired
+    private GuestStatusCountRepository statusCountRepository;
     
     @Value("${services.appointment.url:http://localhost:8081}")
     private String appointmentServiceUrl;
 
+    @Value("${app.pagination.default-size:50}")
+    private int defaultPageSize;
+
+    @Value("${app.pagination.max-size:500}")
+    private int maxPageSize;
+
+    @Value("${app.guest-batch.max-size:1000}")
+    private int maxBatchSize;
+
+    @Value("${app.guest-batch.max-appointments:50}")
+    private int maxAppointmentsPerRead;
+
     /**
      * 약속 참가자 등록
+     * 약속 정보는 호출자가 이미 조회한 값을 받아 호스트 확인에 사용
      */
-    public GuestResponse createGuest(String appointmentId, GuestRequest request) {
-        // 1. 약속 정보 조회하여 호스트 확인
-        try {
-            var appointment = appointmentServiceClient.getAppointmentById(appointmentId);
-            if (appointment != null && appointment.getHostId().equals(request.getUser_id())) {
-                throw new RuntimeException("내가 호스트인 약속에는 참여할 수 없어요!");
-            }
-        } catch (Exception e) {
-            log.error("약속 정보 조회 실패: {}", appointmentId, e);
-            throw new RuntimeException("약속 정보를 확인할 수 없습니다.");
-        }
-        
-        // 2. 중복 체크 추가
-        if (guestRepository.existsByAppointmentIdAndUserId(appointmentId, request.getUser_id())) {
-            throw new RuntimeException("이미 해당 약속에 참여하고 있습니다.");
+    public GuestResponse createGuest(String appointmentId, AppointmentResponse appointment, GuestRequest request) {
+        // 1. 호스트 본인 참여 방지
+        if (appointment.getHostId() != null && appointment.getHostId().equals(request.getUser_id())) {
+            throw new RuntimeException("내가 호스트인 약속에는 참여할 수 없어요!");
         }
         
-        String guestId = generateGuestId();
+        String guestId = guestIdGenerator.nextId();
         
         Guest guest = Guest.builder()
                 .guest_id(guestId)
@@ -69,21 +109,236 @@ public class GuestService {
                 .updated_at(LocalDateTime.now())
                 .build();
         
-        Guest savedGuest = guestRepository.save(guest);
+        // 2. 중복 참가는 uk_guests_appointment_user 제약으로 판단 (사전 조회 없이 INSERT 한 번)
+        Guest savedGuest;
+        try {
+            savedGuest = guestRepository.saveAndFlush(guest);
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateParticipation(e)) {
+                throw new DuplicateParticipationException("이미 해당 약속에 참여하고 있습니다.", e);
+            }
+            throw e;
+        }
+        eventPublisher.publishEvent(GuestChangedEvent.created(appointmentId, savedGuest.getGuest_id(),
+                savedGuest.getUser_id(), savedGuest.getGuest_status(), savedGuest.getCreated_at()));
         return convertToResponse(savedGuest);
     }
 
     /**
-     * 약속 참가자 목록 조회
+     * 약속 참가자 일괄 등록
+     * - 약속 정보와 User Service에서 확인된 사용자 ID는 호출자가 한 번에 조회해 전달
+     * - 이미 참여 중인 사용자는 IN 조회 한 번으로 걸러내고, 나머지는 batch INSERT
+     * - 결과는 요청한 user_ids 순서대로 항목별로 반환
+     * @throws DuplicateParticipationException 중복 확인과 INSERT 사이에 다른 요청이 같은 사용자를 등록한 경우
+     */
+    public GuestBatchResponse createGuests(String appointmentId, AppointmentResponse appointment,
+                                           GuestBatchRequest request, Set<String> foundUserIds) {
+        validateBatchRequest(request);
+        List<String> userIds = request.getUser_ids();
+        String guestStatus = request.getGuest_status() != null ? request.getGuest_status() : "coming";
+
+        // 1. 요청 자체로 판단 가능한 항목 (빈 값, 요청 내 중복, 호스트, 존재하지 않는 사용자)
+        String[] outcomes = new String[userIds.size()];
+        Set<String> seen = new HashSet<>();
+        List<String> candidates = new ArrayList<>();
+        for (int i = 0; i < userIds.size(); i++) {
+            String userId = userIds.get(i);
+            if (userId == null || userId.isBlank()) {
+                outcomes[i] = GuestBatchItemResponse.INVALID;
+            } else if (!seen.add(userId)) {
+                outcomes[i] = GuestBatchItemResponse.DUPLICATE_IN_REQUEST;
+            } else if (userId.equals(appointment.getHostId())) {
+                outcomes[i] = GuestBatchItemResponse.HOST;
+            } else if (!foundUserIds.contains(userId)) {
+                outcomes[i] = GuestBatchItemResponse.USER_NOT_FOUND;
+            } else {
+                candidates.add(userId);
+            }
+        }
+
+        // 2. 이미 참여 중인 사용자 (IN 조회 1회)
+        Set<String> alreadyJoined = candidates.isEmpty()
+                ? Set.of()
+                : new HashSet<>(guestRepository.findUserIdsByAppointmentIdAndUserIdIn(appointmentId, candidates));
+
+        // 3. 나머지는 batch INSERT
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, Guest> newGuests = new LinkedHashMap<>();
+        for (String userId : candidates) {
+            if (!alreadyJoined.contains(userId)) {
+                newGuests.put(userId, Guest.builder()
+                        .guest_id(guestIdGenerator.nextId())
+                        .appointment_id(appointmentId)
+                        .user_id(userId)
+                        .guest_status(guestStatus)
+                        .created_at(now)
+                        .updated_at(now)
+                        .build());
+            }
+        }
+        try {
+            guestRepository.insertAll(new ArrayList<>(newGuests.values()));
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateParticipation(e)) {
+                // 중복 확인 이후 다른 요청이 같은 사용자를 먼저 등록한 경우 (일괄 등록 전체 롤백, 409)
+                // 실패한 flush 이후에는 같은 트랜잭션에서 항목별로 다시 판단할 수 없으므로, 재시도하면 already_joined로 응답됨
+                throw new DuplicateParticipationException(
+                        "다른 요청과 동시에 등록된 참가자가 있어 일괄 등록에 실패했습니다. 다시 시도해 주세요.", e);
+            }
+            throw e;
+        }
+        newGuests.values().forEach(guest -> eventPublisher.publishEvent(GuestChangedEvent.created(
+                appointmentId, guest.getGuest_id(), guest.getUser_id(), guest.getGuest_status(), now)));
+
+        List<GuestBatchItemResponse> results = new ArrayList<>(userIds.size());
+        for (int i = 0; i < userIds.size(); i++) {
+            String userId = userIds.get(i);
+            String outcome = outcomes[i];
+            if (outcome == null) {
+                outcome = alreadyJoined.contains(userId) ? GuestBatchItemResponse.ALREADY_JOINED : GuestBatchItemResponse.CREATED;
+            }
+            results.add(GuestBatchItemResponse.builder()
+                    .user_id(userId)
+                    .result(outcome)
+                    .guest(GuestBatchItemResponse.CREATED.equals(outcome) ? convertToResponse(newGuests.get(userId)) : null)
+                    .build());
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("✅ [GuestService] createGuests 완료 - appointmentId: {}, 요청: {}, 등록: {}",
+                    appointmentId, userIds.size(), newGuests.size());
+        }
+        return GuestBatchResponse.builder()
+                .appointment_id(appointmentId)
+                .requested(userIds.size())
+                .created(newGuests.size())
+                .results(results)
+                .build();
+    }
+
+    /**
+     * 일괄 등록 요청 크기 검증 (다운스트림 조회 전에 호출)
+     * @throws IllegalArgumentException user_ids가 비어 있거나 app.guest-batch.max-size를 넘는 경우
+     */
+    public void validateBatchRequest(GuestBatchRequest request) {
+        List<String> userIds = request.getUser_ids();
+        if (userIds == null || userIds.isEmpty()) {
+            throw new IllegalArgumentException("user_ids가 필요합니다");
+        }
+        if (userIds.size() > maxBatchSize) {
+            throw new IllegalArgumentException("한 번에 등록할 수 있는 참가자는 최대 " + maxBatchSize + "명입니다: " + userIds.size());
+        }
+    }
+
+    /**
+     * 다건 참가자 조회의 약속 ID 검증 (다운스트림 조회 전에 호출)
+     * @return 중복을 제거한 약속 ID (요청 순서 유지)
+     * @throws IllegalArgumentException appointment_ids가 비어 있거나 app.guest-batch.max-appointments를 넘는 경우
+     */
+    public List<String> validateAppointmentIds(List<String> appointmentIds) {
+        if (appointmentIds == null) {
+            throw new IllegalArgumentException("appointment_ids가 필요합니다");
+        }
+        Set<String> distinct = new LinkedHashSet<>();
+        appointmentIds.stream()
+                .filter(id -> id != null && !id.isBlank())
+                .forEach(id -> distinct.add(id.trim()));
+        if (distinct.isEmpty()) {
+            throw new IllegalArgumentException("appointment_ids가 필요합니다");
+        }
+        if (distinct.size() > maxAppointmentsPerRead) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 약속은 최대 " + maxAppointmentsPerRead + "개입니다: " + distinct.size());
+        }
+        return new ArrayList<>(distinct);
+    }
+
+    private boolean isDuplicateParticipation(DataIntegrityViolationException e) {
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase().contains(Guest.UNIQUE_APPOINTMENT_USER);
+    }
+
+    /**
+     * 약속 참가자 목록 조회 (projection, 엔티티 로딩 없음)
      */
     @Transactional(readOnly = true)
     public List<GuestResponse> getGuests(String appointmentId) {
-        List<Guest> guests = guestRepository.findByAppointmentId(appointmentId);
-        return guests.stream()
-                .map(this::convertToResponse)
-                .toList();
+        List<GuestResponse> guests = guestRepository.findResponsesByAppointmentId(appointmentId);
+        statusWriteBehind.overlay(guests);
+        return guests;
+    }
+
+    /**
+     * 여러 약속의 참가자 목록 조회 (WHERE appointment_id IN (...) 쿼리 1회, projection)
+     * @param appointmentIds 존재가 확인된 약속 ID (응답 순서)
+     * @param notFound 존재하지 않는 약속 ID (조회하지 않고 응답에 그대로 포함)
+     */
+    @Transactional(readOnly = true)
+    public GuestListBatchResponse getGuestsByAppointmentIds(List<String> appointmentIds, List<String> notFound) {
+        Map<String, List<GuestResponse>> grouped = new LinkedHashMap<>();
+        appointmentIds.forEach(appointmentId -> grouped.put(appointmentId, new ArrayList<>()));
+        if (!grouped.isEmpty()) {
+            List<GuestResponse> guests = guestRepository.findResponsesByAppointmentIdIn(grouped.keySet());
+            statusWriteBehind.overlay(guests);
+            guests.forEach(guest -> grouped.get(guest.getAppointment_id()).add(guest));
+        }
+        return GuestListBatchResponse.builder()
+                .data(grouped)
+                .not_found(notFound)
+                .build();
+    }
+
+    /**
+     * 약속 참가자 상태별 인원 (guest_status_counts 조회 1회, 참가자 행을 읽지 않음)
+     */
+    @Transactional(readOnly = true)
+    public GuestSummaryResponse getGuestSummary(String appointmentId) {
+        Map<String, Long> counts = statusCountRepository.findCounts(appointmentId);
+        statusWriteBehind.overlayCounts(appointmentId, counts);
+        return GuestSummaryResponse.builder()
+                .appointment_id(appointmentId)
+                .total(counts.values().stream().mapToLong(Long::longValue).sum())
+                .counts(counts)
+                .build();
+    }
+
+    /**
+     * 약속 참가자 목록 버전 (ETag 용, 집계 쿼리 1회)
+     * 목록보다 먼저 조회하므로 그 사이 변경이 생겨도 ETag가 본문보다 새로운 값이 되지는 않음
+     */
+    @Transactional(readOnly = true)
+    public GuestListVersion getGuestListVersion(String appointmentId) {
+        return statusWriteBehind.overlay(appointmentId, guestRepository.findListVersionByAppointmentId(appointmentId));
+    }
+
+    /**
+     * 참가자 상태와 마지막 변경 시각 (ETag 용, 해당 약속의 참가자가 아니면 empty)
+     */
+    @Transactional(readOnly = true)
+    public Optional<GuestStatusVersion> findGuestStatusVersion(String appointmentId, String guestId) {
+        return guestRepository.findStatusVersion(appointmentId, guestId)
+                .map(version -> statusWriteBehind.overlay(appointmentId, guestId, version));
     }
     
+    /**
+     * 약속 참가자 목록 페이지 조회 (created_at, guest_id 순 keyset)
+     * @param cursor 이전 페이지의 next_cursor (첫 페이지는 null)
+     * @param size 페이지 크기 (null이면 기본값, 최대 app.pagination.max-size)
+     */
+    @Transactional(readOnly = true)
+    public GuestPageResponse getGuestPage(String appointmentId, String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+        List<GuestResponse> rows;
+        if (cursor == null) {
+            rows = guestRepository.findPageByAppointmentId(appointmentId, limit);
+        } else {
+            GuestCursor after = GuestCursor.decode(cursor);
+            rows = guestRepository.findPageByAppointmentIdAfter(appointmentId, after.createdAt(), after.guestId(), limit);
+        }
+        statusWriteBehind.overlay(rows);
+        return toPage(rows, pageSize);
+    }
+
     /**
      * 약속 개별 참가자 조회
      */
@@ -91,7 +346,7 @@ public class GuestService {
 
     @Transactional(readOnly = true)
     public GuestResponse getGuest(String appointmentId, String guestId) {
-        log.info("🔍 [GuestService] getGuest 시작 - appointmentId: {}, guestId: {}", appointmentId, guestId);
+        log.debug("🔍 [GuestService] getGuest 시작 - appointmentId: {}, guestId: {}", appointmentId, guestId);
         
         // 1. Guest 존재 여부 확인
         Optional<Guest> guestOptional = guestRepository.findById(guestId);
@@ -110,10 +365,14 @@ public class GuestService {
                     ", Appointment ID: " + appointmentId);
         }
         
-        log.info("✅ [GuestService] getGuest 완료 - appointmentId: {}, guestId: {}, userId: {}, status: {}", 
-                appointmentId, guestId, guest.getUser_id(), guest.getGuest_status());
+        if (log.isDebugEnabled()) {
+            log.debug("✅ [GuestService] getGuest 완료 - appointmentId: {}, guestId: {}, userId: {}, status: {}",
+                    appointmentId, guestId, guest.getUser_id(), guest.getGuest_status());
+        }
         
-        return convertToResponse(guest);
+        GuestResponse response = convertToResponse(guest);
+        statusWriteBehind.overlay(response);
+        return response;
     }
 
     /**
@@ -121,75 +380,190 @@ public class GuestService {
      */
     @Transactional(readOnly = true)
     public String getGuestStatus(String appointmentId, String guestId) {
-        log.info("🔍 [GuestService] getGuestStatus 시작 - appointmentId: {}, guestId: {}", appointmentId, guestId);
-        
         // 기존 getGuest 메서드를 재사용하여 전체 정보 조회
         GuestResponse guestResponse = getGuest(appointmentId, guestId);
         
         // guest_status만 추출하여 반환
         String status = guestResponse.getGuest_status();
         
-        log.info("✅ [GuestService] getGuestStatus 완료 - appointmentId: {}, guestId: {}, status: {}", 
-                appointmentId, guestId, status);
-        
         return status;
     }
 
     /**
      * 참가자 상태 변경
+     * 대상 행 잠금 조회 1회 + 약속 범위 조건을 포함한 UPDATE 1회로 처리하고, 변경 후 재조회하지 않음
+     * (잠금 조회로 얻은 변경 전 상태는 상태별 요약 증감과 이벤트에, user_id/created_at은 응답에 사용)
+     * 커밋 직전에 outbox 기록과 상태별 요약 증감이 batch로 1회씩 추가 실행됨
+     * app.status-write-behind.enabled=true면 UPDATE 대신 GuestStatusWriteBehind 버퍼에 접수
      */
     public GuestResponse updateGuestStatus(String appointmentId, String guestId, GuestRequest request, String userId) {
-        // 1. Guest 존재 여부 확인
-        if (!guestRepository.existsByGuestId(guestId)) {
-            throw new RuntimeException("참가자가 삭제되었거나 존재하지 않습니다. Guest ID: " + guestId);
-        }
-        
-        // 2. 호스트 권한 검증
+        // 1. 호스트 권한 검증
         if (!isHost(appointmentId, userId)) {
             throw new RuntimeException("호스트가 아닌 사용자는 상태를 변경할 수 없습니다.");
         }
         
-        // 3. 알림 도착 여부 체크는 Notification Service에서 처리
-        // Guest Service는 상태 변경 요청을 받으면 바로 처리
-        
-        // 3. 상태 업데이트
-        int updatedRows = guestRepository.updateGuestStatus(guestId, request.getGuest_status(), LocalDateTime.now());
+        // 2. 알림 도착 여부 체크는 Notification Service에서 처리
+        // Guest Service는 상태 변경 요청을 받으면 바로 처리하고, 변경 이벤트는 같은 트랜잭션에서 outbox에 기록
         
-        if (updatedRows == 0) {
-            throw new RuntimeException("상태 업데이트에 실패했습니다. Guest ID: " + guestId);
+        // 3. write-behind 모드: 참가자 확인(조회 1회) 후 로그에 기록하고 응답, DB 반영은 주기적 batch UPDATE
+        LocalDateTime now = LocalDateTime.now();
+        if (statusWriteBehind.isEnabled()) {
+            GuestResponse current = guestRepository.findResponseByAppointmentIdAndGuestId(appointmentId, guestId)
+                    .orElseThrow(() -> new RuntimeException("참가자가 삭제되었거나 존재하지 않습니다. Guest ID: " + guestId));
+            statusWriteBehind.overlay(current);
+            PendingGuestStatus accepted = statusWriteBehind.accept(appointmentId, guestId, current.getUser_id(),
+                    request.getGuest_status(), current.getGuest_status(), now);
+            current.setGuest_status(accepted.guestStatus());
+            current.setUpdated_at(accepted.updatedAt());
+            return current;
         }
         
-        // 4. 업데이트된 데이터 조회하여 반환
-        Guest updatedGuest = guestRepository.findById(guestId)
-                .orElseThrow(() -> new RuntimeException("업데이트된 데이터를 찾을 수 없습니다. Guest ID: " + guestId));
+        // 4. 변경 전 상태를 잠가 확인 (참가자가 없거나 다른 약속의 참가자면 UPDATE 없이 실패)
+        Guest target = guestRepository.findForUpdateByAppointmentIdAndGuestId(appointmentId, guestId)
+                .orElseThrow(() -> new RuntimeException("참가자가 삭제되었거나 존재하지 않습니다. Guest ID: " + guestId));
         
-        return convertToResponse(updatedGuest);
+        // 5. 상태 업데이트
+        guestRepository.updateGuestStatus(appointmentId, guestId, request.getGuest_status(), now);
+        eventPublisher.publishEvent(GuestChangedEvent.statusChanged(
+                appointmentId, guestId, target.getUser_id(), request.getGuest_status(), target.getGuest_status(), now));
+        
+        return GuestResponse.builder()
+                .guest_id(guestId)
+                .appointment_id(appointmentId)
+                .user_id(target.getUser_id())
+                .guest_status(request.getGuest_status())
+                .created_at(target.getCreated_at())
+                .updated_at(now)
+                .build();
+    }
+
+    /**
+     * 참가자 상태 일괄 변경 (호스트만 가능)
+     * - 호스트 확인은 호출자가 조회한 약속 정보로 한 번만 수행
+     * - 대상 행을 잠가 조회한 뒤 UPDATE ... WHERE guest_id IN (...) 한 번으로 변경
+     * - 응답은 잠근 행에 변경 값을 적용해 구성 (변경 후 재조회 없음)
+     */
+    public GuestStatusBatchResponse updateGuestStatuses(String appointmentId, AppointmentResponse appointment,
+                                                        GuestStatusBatchRequest request, String userId) {
+        validateStatusBatchRequest(request);
+
+        // 1. 호스트 권한 검증
+        if (!userId.equals(appointment.getHostId())) {
+            throw new RuntimeException("호스트가 아닌 사용자는 상태를 변경할 수 없습니다.");
+        }
+
+        // 2. 대상 행 잠금 조회
+        List<Guest> targets = request.getGuest_ids() != null
+                ? guestRepository.findForUpdateByAppointmentIdAndGuestIdIn(appointmentId, new LinkedHashSet<>(request.getGuest_ids()))
+                : guestRepository.findForUpdateByAppointmentIdAndGuestStatus(appointmentId, request.getFrom_status());
+
+        // 3. set-based UPDATE (from_status 지정 시 IN 목록 없이 같은 조건으로 변경)
+        LocalDateTime now = LocalDateTime.now();
+        Set<String> targetIds = new HashSet<>();
+        targets.forEach(guest -> targetIds.add(guest.getGuest_id()));
+        if (!targetIds.isEmpty()) {
+            if (request.getGuest_ids() != null) {
+                guestRepository.updateGuestStatusIn(appointmentId, targetIds, request.getGuest_status(), now);
+            } else {
+                guestRepository.updateGuestStatusByStatus(appointmentId, request.getFrom_status(), request.getGuest_status(), now);
+            }
+        }
+
+        targets.forEach(guest -> eventPublisher.publishEvent(GuestChangedEvent.statusChanged(appointmentId,
+                guest.getGuest_id(), guest.getUser_id(), request.getGuest_status(), guest.getGuest_status(), now)));
+
+        List<GuestResponse> updated = targets.stream()
+                .map(guest -> GuestResponse.builder()
+                        .guest_id(guest.getGuest_id())
+                        .appointment_id(guest.getAppointment_id())
+                        .user_id(guest.getUser_id())
+                        .guest_status(request.getGuest_status())
+                        .created_at(guest.getCreated_at())
+                        .updated_at(now)
+                        .build())
+                .toList();
+        List<String> notFound = request.getGuest_ids() == null
+                ? List.of()
+                : request.getGuest_ids().stream().distinct().filter(id -> !targetIds.contains(id)).toList();
+
+        if (log.isDebugEnabled()) {
+            log.debug("✅ [GuestService] updateGuestStatuses 완료 - appointmentId: {}, newStatus: {}, 변경: {}, 없음: {}",
+                    appointmentId, request.getGuest_status(), updated.size(), notFound.size());
+        }
+        return GuestStatusBatchResponse.builder()
+                .appointment_id(appointmentId)
+                .guest_status(request.getGuest_status())
+                .updated(updated.size())
+                .data(updated)
+                .not_found(notFound)
+                .build();
+    }
+
+    /**
+     * 상태 일괄 변경 요청 검증
+     * @throws IllegalArgumentException 변경할 상태가 없거나, 대상 지정(guest_ids/from_status)이 하나가 아닌 경우
+     */
+    public void validateStatusBatchRequest(GuestStatusBatchRequest request) {
+        if (request.getGuest_status() == null || request.getGuest_status().isBlank()) {
+            throw new IllegalArgumentException("guest_status가 필요합니다");
+        }
+        boolean byIds = request.getGuest_ids() != null;
+        boolean byStatus = request.getFrom_status() != null;
+        if (byIds == byStatus) {
+            throw new IllegalArgumentException("guest_ids와 from_status 중 하나만 지정해야 합니다");
+        }
+        if (byIds && (request.getGuest_ids().isEmpty() || request.getGuest_ids().size() > maxBatchSize)) {
+            throw new IllegalArgumentException("guest_ids는 1~" + maxBatchSize + "개여야 합니다: " + request.getGuest_ids().size());
+        }
     }
 
     /**
      * 참가자 삭제 (참가 취소)
+     * 해당 약속의 참가자인 경우에만 삭제 (대상 행 잠금 조회 1회 + DELETE 1회, 다른 약속이면 조회만 1회)
      */
     public boolean deleteGuest(String appointmentId, String guestId) {
-        if (guestRepository.existsByGuestId(guestId)) {
-            guestRepository.deleteById(guestId);
-            return true;
+        Optional<Guest> target = guestRepository.findForUpdateByAppointmentIdAndGuestId(appointmentId, guestId);
+        if (target.isEmpty()) {
+            return false;
         }
-        return false;
+        guestRepository.deleteByAppointmentIdAndGuestId(appointmentId, guestId);
+        eventPublisher.publishEvent(GuestChangedEvent.deleted(appointmentId, guestId, target.get().getGuest_status(),
+                LocalDateTime.now()));
+        return true;
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return defaultPageSize;
+        }
+        if (size < 1) {
+            throw new IllegalArgumentException("size는 1 이상이어야 합니다: " + size);
+        }
+        return Math.min(size, maxPageSize);
     }
 
     /**
-     * Guest ID 생성 (순차적)
+     * pageSize + 1개를 조회한 결과로 다음 페이지 존재 여부와 커서 결정
      */
-    private String generateGuestId() {
-        // 현재 시간 기반으로 순차적 ID 생성
-        long timestamp = System.currentTimeMillis();
-        return "guest" + timestamp;
+    private GuestPageResponse toPage(List<GuestResponse> rows, int pageSize) {
+        boolean hasNext = rows.size() > pageSize;
+        List<GuestResponse> data = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            GuestResponse last = data.get(data.size() - 1);
+            nextCursor = new GuestCursor(last.getCreated_at(), last.getGuest_id()).encode();
+        }
+        return GuestPageResponse.builder()
+                .data(data)
+                .next_cursor(nextCursor)
+                .has_next(hasNext)
+                .build();
     }
 
     /**
-     * Entity를 Response DTO로 변환
+     * Entity를 Response DTO로 변환 (src/jmh GuestConversionBenchmark에서 같은 패키지로 호출)
      */
-    private GuestResponse convertToResponse(Guest guest) {
+    static GuestResponse convertToResponse(Guest guest) {
         return GuestResponse.builder()
                 .guest_id(guest.getGuest_id())
                 .appointment_id(guest.getAppointment_id())
@@ -245,31 +619,55 @@ public class GuestService {
     }
 
     /**
-     * 특정 사용자가 참여한 모든 게스트 정보 조회
+     * 특정 사용자가 참여한 모든 게스트 정보 조회 (projection)
      */
     @Transactional(readOnly = true)
     public List<GuestResponse> getGuestsByUserId(String userId) {
-        log.info("🔍 [GuestService] getGuestsByUserId 시작 - userId: {}", userId);
+        log.debug("🔍 [GuestService] getGuestsByUserId 시작 - userId: {}", userId);
         
-        List<Guest> guests = guestRepository.findByUserId(userId);
-        List<GuestResponse> responses = guests.stream()
-                .map(this::convertToResponse)
-                .toList();
+        List<GuestResponse> responses = guestRepository.findResponsesByUserId(userId);
+        statusWriteBehind.overlay(responses);
         
-        log.info("✅ [GuestService] getGuestsByUserId 완료 - userId: {}, 게스트 수: {}", userId, responses.size());
+        log.debug("✅ [GuestService] getGuestsByUserId 완료 - userId: {}, 게스트 수: {}", userId, responses.size());
         return responses;
     }
 
+    /**
+     * 특정 사용자가 참여한 게스트 정보 페이지 조회 (created_at, guest_id 순 keyset)
+     */
+    @Transactional(readOnly = true)
+    public GuestPageResponse getGuestPageByUserId(String userId, String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+        List<GuestResponse> rows;
+        if (cursor == null) {
+            rows = guestRepository.findPageByUserId(userId, limit);
+        } else {
+            GuestCursor after = GuestCursor.decode(cursor);
+            rows = guestRepository.findPageByUserIdAfter(userId, after.createdAt(), after.guestId(), limit);
+        }
+        statusWriteBehind.overlay(rows);
+        return toPage(rows, pageSize);
+    }
+
     @Transactional(readOnly = true)
     public List<GuestResponse> getGuestsByUserIdAndStatus(String userId, String status) {
-        log.info("🔍 [GuestService] getGuestsByUserIdAndStatus 시작 - userId: {}, status: {}", userId, status);
+        log.debug("🔍 [GuestService] getGuestsByUserIdAndStatus 시작 - userId: {}, status: {}", userId, status);
         
-        List<Guest> guests = guestRepository.findByUserIdAndGuestStatus(userId, status);
-        List<GuestResponse> responses = guests.stream()
-                .map(this::convertToResponse)
-                .toList();
+        List<GuestResponse> responses;
+        if (statusWriteBehind.hasPendingForUser(userId)) {
+            // 이 사용자의 참가자 중 버퍼에서 바뀐 값이 있으면 DB 상태로 거를 수 없으므로, 전체 조회 후 버퍼 값을 반영해 거름
+            responses = guestRepository.findResponsesByUserId(userId);
+            statusWriteBehind.overlay(responses);
+            responses = responses.stream().filter(guest -> status.equals(guest.getGuest_status())).toList();
+        } else {
+            responses = guestRepository.findResponsesByUserIdAndGuestStatus(userId, status);
+        }
         
-        log.info("✅ [GuestService] getGuestsByUserIdAndStatus 완료 - userId: {}, status: {}, 게스트 수: {}", userId, status, responses.size());
+        if (log.isDebugEnabled()) {
+            log.debug("✅ [GuestService] getGuestsByUserIdAndStatus 완료 - userId: {}, status: {}, 게스트 수: {}",
+                    userId, status, responses.size());
+        }
         return responses;
     }
 
@@ -277,7 +675,7 @@ public class GuestService {
      * 호스트 권한 검증 - WebClient 사용으로 변경 (디버깅 로그 추가)
      */
     private boolean isHost(String appointmentId, String userId) {
-        log.info("🔍 호스트 권한 검증 시작 - appointmentId: {}, userId: {}", appointmentId, userId);
+        log.debug("🔍 호스트 권한 검증 시작 - appointmentId: {}, userId: {}", appointmentId, userId);
         
         try {
             AppointmentResponse appointment = appointmentServiceClient.getAppointmentById(appointmentId);
@@ -288,18 +686,19 @@ public class GuestService {
             
             // camelCase 필드명 사용 (AppointmentResponse의 hostId 필드)
             String hostId = appointment.getHostId();
-            log.info("📋 Appointment 정보 조회 성공 - appointmentId: {}, hostId: {}, title: {}", 
-                    appointmentId, hostId, appointment.getTitle());
-            
             boolean isHostUser = userId.equals(hostId);
-            log.info("🔐 권한 검증 결과 - 요청사용자: '{}', 호스트: '{}', 권한있음: {}", 
-                    userId, hostId, isHostUser);
+            if (log.isDebugEnabled()) {
+                log.debug("🔐 권한 검증 결과 - appointmentId: {}, 요청사용자: '{}', 호스트: '{}', 권한있음: {}",
+                        appointmentId, userId, hostId, isHostUser);
+            }
             
             if (!isHostUser) {
                 log.warn("⚠️ 호스트 권한 없음 - 요청사용자 '{}' != 호스트 '{}'", userId, hostId);
             }
             
             return isHostUser;
+        } catch (DownstreamUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             log.error("💥 호스트 권한 검증 실패 - appointmentId: {}, userId: {}, error: {}", 
                     appointmentId, userId, e.getMessage(), e);
@@ -0,0 +1,69 @@
+package com.example.guest.service.event;
+
+import com.example.guest.dto.response.GuestEventResponse;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+/**
+ * 참가자 변경 이벤트 (GuestService에서 발행, 트랜잭션 커밋 후 GuestEventHub로 전달)
+ * @param userId 참가자 사용자 ID (삭제 이벤트, 단건 상태 변경처럼 사용자 조회 없이 처리한 경우 null)
+ * @param previousStatus 변경/삭제 이전 상태 (등록 이벤트는 null)
+ */
+public record GuestChangedEvent(Type type,
+                                String appointmentId,
+                                String guestId,
+                                String userId,
+                                String guestStatus,
+                                String previousStatus,
+                                LocalDateTime occurredAt) {
+
+    public enum Type {
+        CREATED("guest.created"),
+        STATUS_CHANGED("guest.status_changed"),
+        DELETED("guest.deleted");
+
+        private final String eventName;
+
+        Type(String eventName) {
+            this.eventName = eventName;
+        }
+
+        /**
+         * SSE event 필드 값
+         */
+        public String eventName() {
+            return eventName;
+        }
+    }
+
+    /**
+     * SSE/outbox 공용 본문 (type: created | status_changed | deleted)
+     */
+    public GuestEventResponse toResponse() {
+        return GuestEventResponse.builder()
+                .type(type.name().toLowerCase(Locale.ROOT))
+                .appointment_id(appointmentId)
+                .guest_id(guestId)
+                .user_id(userId)
+                .guest_status(guestStatus)
+                .previous_status(previousStatus)
+                .occurred_at(occurredAt)
+                .build();
+    }
+
+    public static GuestChangedEvent created(String appointmentId, String guestId, String userId,
+                                            String guestStatus, LocalDateTime occurredAt) {
+        return new GuestChangedEvent(Type.CREATED, appointmentId, guestId, userId, guestStatus, null, occurredAt);
+    }
+
+    public static GuestChangedEvent statusChanged(String appointmentId, String guestId, String userId,
+                                                  String guestStatus, String previousStatus, LocalDateTime occurredAt) {
+        return new GuestChangedEvent(Type.STATUS_CHANGED, appointmentId, guestId, userId, guestStatus, previousStatus, occurredAt);
+    }
+
+    public static GuestChangedEvent deleted(String appointmentId, String guestId, String previousStatus,
+                                            LocalDateTime occurredAt) {
+        return new GuestChangedEvent(Type.DELETED, appointmentId, guestId, null, null, previousStatus, occurredAt);
+    }
+}
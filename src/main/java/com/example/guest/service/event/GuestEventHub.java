@@ -0,0 +1,167 @@
+package com.example.guest.service.event;
+
+import com.example.guest.dto.response.GuestEventResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import reactor.core.Disposable;
+import reactor.core.Exceptions;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 약속별 참가자 변경 이벤트 fan-out (프로세스 내, 단일 노드)
+ * - 구독자는 스레드를 점유하지 않는 Flux로 표현 (약속별 multicast sink 하나를 공유)
+ * - 구독자마다 subscriberBuffer 크기의 버퍼를 두고, 버퍼가 넘치면 해당 구독만 종료 (느린 소비자 축출)
+ * - heartbeat는 노드 전체에서 타이머 하나로 모든 구독자에게 SSE comment를 전송 (프록시 idle timeout 방지)
+ * - 이벤트는 트랜잭션 커밋 이후에만 전달되며, 재연결 시 놓친 이벤트는 재전송하지 않음 (클라이언트가 목록을 다시 조회)
+ */
+@Component
+@Slf4j
+public class GuestEventHub {
+
+    private final ConcurrentHashMap<String, Channel> channels = new ConcurrentHashMap<>();
+
+    private final Sinks.Many<ServerSentEvent<GuestEventResponse>> heartbeatSink =
+            Sinks.many().multicast().directBestEffort();
+
+    private final Disposable heartbeatTimer;
+
+    private final int subscriberBuffer;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final AtomicInteger subscribers = new AtomicInteger();
+
+    private final Counter published;
+
+    private final Counter evicted;
+
+    public GuestEventHub(@Value("${app.guest-events.heartbeat:15s}") Duration heartbeat,
+                         @Value("${app.guest-events.subscriber-buffer:256}") int subscriberBuffer,
+                         MeterRegistry meterRegistry) {
+        this.subscriberBuffer = subscriberBuffer;
+        this.heartbeatTimer = Flux.interval(heartbeat)
+                .subscribe(tick -> heartbeatSink.tryEmitNext(comment("heartbeat")));
+
+        Gauge.builder("guest.events.subscribers", subscribers, AtomicInteger::get)
+                .description("참가자 변경 이벤트 구독 수")
+                .register(meterRegistry);
+        Gauge.builder("guest.events.channels", channels, ConcurrentHashMap::size)
+                .description("구독자가 있는 약속 수")
+                .register(meterRegistry);
+        this.published = Counter.builder("guest.events.published")
+                .description("구독자가 있는 약속으로 전달한 이벤트 수")
+                .register(meterRegistry);
+        this.evicted = Counter.builder("guest.events.evicted")
+                .description("버퍼 초과로 종료한 느린 구독 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 커밋된 변경만 전달 (트랜잭션 밖에서 발행된 이벤트는 즉시 전달)
+     * 구독자가 없는 약속의 이벤트는 변환 없이 버림
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGuestChanged(GuestChangedEvent event) {
+        Channel channel = channels.get(event.appointmentId());
+        if (channel == null) {
+            return;
+        }
+        try {
+            // 여러 커밋 스레드가 같은 sink로 동시에 보내는 경우 짧게 재시도 (구독자별 버퍼로 넘기므로 대기는 짧음)
+            channel.sink.emitNext(toServerSentEvent(event), Sinks.EmitFailureHandler.busyLooping(Duration.ofMillis(100)));
+            published.increment();
+        } catch (Sinks.EmissionException e) {
+            log.warn("참가자 변경 이벤트 전달 실패 - appointmentId: {}, guestId: {}, reason: {}",
+                    event.appointmentId(), event.guestId(), e.getReason());
+        }
+    }
+
+    /**
+     * 약속의 참가자 변경 이벤트 구독
+     * 첫 응답으로 connected comment를 보내고, 이후 이벤트와 heartbeat comment를 전달
+     * 구독이 끝나면(취소/축출) 약속의 마지막 구독자인 경우 채널을 제거
+     */
+    public Flux<ServerSentEvent<GuestEventResponse>> subscribe(String appointmentId) {
+        return Flux.using(
+                () -> acquire(appointmentId),
+                channel -> Flux.merge(channel.sink.asFlux(), heartbeatSink.asFlux())
+                        .startWith(comment("connected"))
+                        .onBackpressureBuffer(subscriberBuffer,
+                                dropped -> log.debug("느린 구독자 버퍼 초과 - appointmentId: {}", appointmentId),
+                                BufferOverflowStrategy.ERROR)
+                        .onErrorResume(Exceptions::isOverflow, e -> {
+                            evicted.increment();
+                            log.warn("느린 구독자 축출 - appointmentId: {}, buffer: {}", appointmentId, subscriberBuffer);
+                            return Flux.empty();
+                        }),
+                channel -> release(appointmentId));
+    }
+
+    public int subscriberCount() {
+        return subscribers.get();
+    }
+
+    public int channelCount() {
+        return channels.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeatTimer.dispose();
+        channels.values().forEach(channel -> channel.sink.tryEmitComplete());
+        heartbeatSink.tryEmitComplete();
+    }
+
+    /**
+     * 구독 수는 ConcurrentHashMap.compute 안에서만 변경 (같은 약속의 acquire/release는 key 단위로 직렬화)
+     */
+    private Channel acquire(String appointmentId) {
+        Channel channel = channels.compute(appointmentId, (id, existing) -> {
+            Channel target = existing != null ? existing : new Channel();
+            target.subscribers++;
+            return target;
+        });
+        subscribers.incrementAndGet();
+        return channel;
+    }
+
+    private void release(String appointmentId) {
+        channels.computeIfPresent(appointmentId, (id, channel) -> --channel.subscribers == 0 ? null : channel);
+        subscribers.decrementAndGet();
+    }
+
+    /**
+     * 이벤트당 한 번만 변환하고 같은 객체를 모든 구독자에게 전달
+     */
+    private ServerSentEvent<GuestEventResponse> toServerSentEvent(GuestChangedEvent event) {
+        return ServerSentEvent.builder(event.toResponse())
+                .id(Long.toString(sequence.incrementAndGet()))
+                .event(event.type().eventName())
+                .build();
+    }
+
+    private static ServerSentEvent<GuestEventResponse> comment(String text) {
+        return ServerSentEvent.<GuestEventResponse>builder().comment(text).build();
+    }
+
+    private static final class Channel {
+
+        private final Sinks.Many<ServerSentEvent<GuestEventResponse>> sink = Sinks.many().multicast().directBestEffort();
+
+        private int subscribers;
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.guest.service.id;
+
+/**
+ * Crockford Base32 고정 길이 인코딩 (0-9, A-Z에서 I, L, O, U 제외)
+ * 문자 순서가 값 순서와 같으므로 같은 길이끼리는 문자열 정렬 = 숫자 정렬
+ */
+final class CrockfordBase32 {
+
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+    private CrockfordBase32() {
+    }
+
+    /**
+     * value의 하위 (length * 5)비트를 length 글자로 인코딩해 buffer[offset..]에 기록
+     */
+    static void encode(long value, int length, char[] buffer, int offset) {
+        for (int i = length - 1; i >= 0; i--) {
+            buffer[offset + i] = ALPHABET[(int) (value & 0x1F)];
+            value >>>= 5;
+        }
+    }
+}
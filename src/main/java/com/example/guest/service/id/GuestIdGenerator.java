@@ -0,0 +1,14 @@
+package com.example.guest.service.id;
+
+/**
+ * Guest ID 생성 전략
+ * - 생성된 ID는 "guest" 접두사 + 고정 길이 문자열이며, 문자열 정렬 순서가 생성 시각 순서와 같음
+ *   (PK B-tree에 항상 뒤쪽으로 추가되도록)
+ * - 구현체는 여러 스레드에서 동시에 호출해도 중복 없이 생성해야 함
+ */
+public interface GuestIdGenerator {
+
+    String PREFIX = "guest";
+
+    String nextId();
+}
@@ -0,0 +1,76 @@
+package com.example.guest.service.id;
+
+import java.time.Instant;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Snowflake 방식 Guest ID (app.guest-id.strategy=snowflake)
+ * - 41bit 밀리초(EPOCH 기준) + 10bit 노드 ID + 12bit 시퀀스 → 63bit, Crockford Base32 13자
+ * - 레플리카마다 서로 다른 app.guest-id.node-id(0~1023)를 지정해야 함
+ * - 한 밀리초에 4096개를 넘으면 다음 밀리초까지 대기, 시계가 뒤로 가면 마지막 타임스탬프를 계속 사용
+ */
+public class SnowflakeGuestIdGenerator implements GuestIdGenerator {
+
+    static final long EPOCH = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int ENCODED_LENGTH = 13;
+
+    private final long nodeId;
+    private final LongSupplier clock;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private long lastTimestamp = -1L;
+    private long sequence;
+
+    public SnowflakeGuestIdGenerator(long nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    SnowflakeGuestIdGenerator(long nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("app.guest-id.node-id는 0~" + MAX_NODE_ID + " 범위여야 합니다: " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    @Override
+    public String nextId() {
+        long id;
+
+        lock.lock();
+        try {
+            long now = Math.max(clock.getAsLong() - EPOCH, lastTimestamp);
+            if (now == lastTimestamp) {
+                sequence = (sequence + 1) & SEQUENCE_MASK;
+                if (sequence == 0) {
+                    now = waitNextMillis(lastTimestamp);
+                }
+            } else {
+                sequence = 0;
+            }
+            lastTimestamp = now;
+            id = (now << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+        } finally {
+            lock.unlock();
+        }
+
+        char[] buffer = new char[PREFIX.length() + ENCODED_LENGTH];
+        PREFIX.getChars(0, PREFIX.length(), buffer, 0);
+        CrockfordBase32.encode(id, ENCODED_LENGTH, buffer, PREFIX.length());
+        return new String(buffer);
+    }
+
+    private long waitNextMillis(long timestamp) {
+        long now = clock.getAsLong() - EPOCH;
+        while (now <= timestamp) {
+            Thread.onSpinWait();
+            now = clock.getAsLong() - EPOCH;
+        }
+        return now;
+    }
+}
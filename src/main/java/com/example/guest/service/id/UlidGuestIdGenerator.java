@@ -0,0 +1,69 @@
+package com.example.guest.service.id;
+
+import java.security.SecureRandom;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Monotonic ULID 기반 Guest ID (기본 전략)
+ * - 48bit 밀리초 타임스탬프 + 80bit 난수, Crockford Base32 26자 → "guest" + 26자
+ * - 같은 밀리초 안에서는 난수부를 1씩 증가시켜 노드 내 순서와 유일성을 보장
+ * - 시계가 뒤로 가면 마지막 타임스탬프를 계속 사용 (순서 역전 방지)
+ * - 레플리카 간에는 밀리초마다 새로 뽑는 80bit 난수로 충돌을 피함 (노드 ID 설정 불필요)
+ */
+public class UlidGuestIdGenerator implements GuestIdGenerator {
+
+    private static final int TIME_LENGTH = 10;
+    private static final int RANDOM_LENGTH = 16;
+    private static final long RANDOM_HIGH_MASK = (1L << 16) - 1;  // 80bit = 상위 16bit + 하위 64bit
+
+    private final LongSupplier clock;
+    private final SecureRandom random = new SecureRandom();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private long lastTimestamp = -1L;
+    private long randomHigh;
+    private long randomLow;
+
+    public UlidGuestIdGenerator() {
+        this(System::currentTimeMillis);
+    }
+
+    UlidGuestIdGenerator(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public String nextId() {
+        long timestamp;
+        long high;
+        long low;
+
+        lock.lock();
+        try {
+            long now = clock.getAsLong();
+            if (now > lastTimestamp) {
+                lastTimestamp = now;
+                randomHigh = random.nextLong() & RANDOM_HIGH_MASK;
+                randomLow = random.nextLong();
+            } else if (++randomLow == 0 && (randomHigh = (randomHigh + 1) & RANDOM_HIGH_MASK) == 0) {
+                // 같은 밀리초에서 80bit 난수부가 넘치면 다음 밀리초로 넘어감 (사실상 발생하지 않음)
+                lastTimestamp++;
+            }
+            timestamp = lastTimestamp;
+            high = randomHigh;
+            low = randomLow;
+        } finally {
+            lock.unlock();
+        }
+
+        char[] buffer = new char[PREFIX.length() + TIME_LENGTH + RANDOM_LENGTH];
+        PREFIX.getChars(0, PREFIX.length(), buffer, 0);
+        int offset = PREFIX.length();
+        CrockfordBase32.encode(timestamp, TIME_LENGTH, buffer, offset);
+        // 80bit 난수부: 상위 40bit(8자) + 하위 40bit(8자)
+        CrockfordBase32.encode((high << 24) | (low >>> 40), 8, buffer, offset + TIME_LENGTH);
+        CrockfordBase32.encode(low, 8, buffer, offset + TIME_LENGTH + 8);
+        return new String(buffer);
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.guest.service.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * outbox 이벤트를 로컬 파일에 NDJSON으로 추가 기록
+ * - 배치 전체를 한 번에 쓰고 force로 디스크 반영을 확인한 뒤 반환 (반환 후 outbox에서 삭제되므로)
+ * - GuestOutboxRelay는 한 번에 하나의 배치만 전달하므로 별도 잠금 없음
+ */
+public class FileOutboxSink implements GuestOutboxSink, AutoCloseable {
+
+    private final ObjectMapper objectMapper;
+
+    private final FileChannel channel;
+
+    public FileOutboxSink(ObjectMapper objectMapper, Path path) throws IOException {
+        this.objectMapper = objectMapper;
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    @Override
+    public void publish(List<GuestOutboxMessage> messages) throws Exception {
+        ByteArrayOutputStream lines = new ByteArrayOutputStream();
+        for (GuestOutboxMessage message : messages) {
+            lines.write(objectMapper.writeValueAsBytes(message));
+            lines.write('\n');
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toByteArray());
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        channel.force(false);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.guest.service.outbox;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.LocalDateTime;
+
+/**
+ * 전달 대기 중인 outbox 행
+ * @param id 전달 순서이자 소비자 측 중복 제거 키 (at-least-once 전달이므로 같은 id가 다시 올 수 있음)
+ * @param payload GuestEventResponse JSON (직렬화 시 문자열이 아닌 JSON 객체로 포함)
+ */
+public record GuestOutboxMessage(long id,
+                                 String eventType,
+                                 String appointmentId,
+                                 String guestId,
+                                 @JsonRawValue String payload,
+                                 LocalDateTime createdAt) {
+}
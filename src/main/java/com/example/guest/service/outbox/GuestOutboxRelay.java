@@ -0,0 +1,195 @@
+package com.example.guest.service.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * guest_outbox를 id 순서로 배치 단위 전달
+ * - 배치 조회(짧은 트랜잭션) → sink 전달(트랜잭션 없음) → 전달한 행을 id로 삭제
+ * - sink 전달 중에는 DB 잠금을 잡지 않으므로, 느린 sink가 참가자 변경(outbox INSERT)을 막지 않음
+ * - sink가 실패하면 삭제하지 않고 다음 주기에 같은 배치부터 다시 전달 (at-least-once, 뒤 이벤트가 앞지르지 않음)
+ * - 여러 레플리카 중 guest_outbox_lease의 lease를 가진 하나만 전달 (전달 순서 유지)
+ * - 한 주기에 배치가 가득 차면 max-batches-per-run까지 이어서 전달
+ */
+@Component
+@ConditionalOnProperty(name = "app.outbox.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class GuestOutboxRelay {
+
+    private static final String SELECT_BATCH_SQL = "SELECT id, event_type, appointment_id, guest_id, payload, created_at "
+            + "FROM guest_outbox ORDER BY id LIMIT ? FOR UPDATE";
+
+    private static final String DELETE_SQL = "DELETE FROM guest_outbox WHERE id = ?";
+
+    /** lease가 만료되었거나 이미 자신이 가진 경우에만 획득/연장 */
+    private static final String ACQUIRE_LEASE_SQL = "UPDATE guest_outbox_lease SET owner = ?, lease_until = ? "
+            + "WHERE name = 'relay' AND (owner = ? OR lease_until < ?)";
+
+    private static final String RELEASE_LEASE_SQL = "UPDATE guest_outbox_lease SET owner = NULL, lease_until = ? "
+            + "WHERE name = 'relay' AND owner = ?";
+
+    private static final RowMapper<GuestOutboxMessage> ROW_MAPPER = (rs, rowNum) -> new GuestOutboxMessage(
+            rs.getLong("id"),
+            rs.getString("event_type"),
+            rs.getString("appointment_id"),
+            rs.getString("guest_id"),
+            rs.getString("payload"),
+            rs.getTimestamp("created_at").toLocalDateTime());
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final GuestOutboxSink sink;
+
+    private final int batchSize;
+
+    private final int maxBatchesPerRun;
+
+    private final Duration leaseDuration;
+
+    private final String owner = UUID.randomUUID().toString();
+
+    private final AtomicLong oldestPendingAgeMillis = new AtomicLong();
+
+    private final Counter published;
+
+    private final Counter failures;
+
+    private final Timer batchTimer;
+
+    private final Timer deliveryLag;
+
+    public GuestOutboxRelay(JdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager,
+                            GuestOutboxSink sink,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.outbox.batch-size:200}") int batchSize,
+                            @Value("${app.outbox.max-batches-per-run:10}") int maxBatchesPerRun,
+                            @Value("${app.outbox.lease-duration:30s}") Duration leaseDuration) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.sink = sink;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.leaseDuration = leaseDuration;
+
+        Gauge.builder("guest.outbox.oldest.age", oldestPendingAgeMillis, age -> age.get() / 1000.0)
+                .description("전달 대기 중인 가장 오래된 outbox 행의 경과 시간 (주기마다 갱신)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.published = Counter.builder("guest.outbox.published")
+                .description("sink로 전달한 outbox 이벤트 수")
+                .register(meterRegistry);
+        this.failures = Counter.builder("guest.outbox.failures")
+                .description("sink 전달에 실패한 배치 수 (다음 주기에 재전달)")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("guest.outbox.batch")
+                .description("배치 조회부터 sink 전달, 삭제까지 소요 시간")
+                .register(meterRegistry);
+        this.deliveryLag = Timer.builder("guest.outbox.delivery.lag")
+                .description("outbox 기록부터 sink 전달 완료까지 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${app.outbox.flush-interval:1s}", fixedDelayString = "${app.outbox.flush-interval:1s}")
+    public void relay() {
+        try {
+            int batches = 0;
+            while (batches++ < maxBatchesPerRun && relayBatch() == batchSize) {
+                // 배치가 가득 찼으면 남은 행이 있을 수 있으므로 이어서 전달
+            }
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.warn("outbox 전달 실패 - 다음 주기에 재시도: {}", e.getMessage());
+        } finally {
+            refreshOldestPendingAge();
+        }
+    }
+
+    /**
+     * 배치 하나를 전달하고 삭제 (lease를 가진 경우에만)
+     * - 잠금 조회는 앞선 id의 커밋되지 않은 INSERT를 기다리므로 id 순서가 건너뛰지 않고, 조회 직후 커밋으로 잠금 해제
+     * - sink 전달이 lease-duration보다 오래 걸리면 다른 레플리카가 같은 배치를 다시 전달할 수 있음 (at-least-once)
+     * @return 전달한 행 수
+     */
+    int relayBatch() {
+        if (!acquireLease()) {
+            return 0;
+        }
+        Timer.Sample sample = Timer.start();
+        List<GuestOutboxMessage> batch = transactionTemplate.execute(status ->
+                jdbcTemplate.query(SELECT_BATCH_SQL, ROW_MAPPER, batchSize));
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+        try {
+            sink.publish(batch);
+        } catch (Exception e) {
+            throw new IllegalStateException("outbox sink 전달 실패 (" + batch.size() + "건, 첫 id: " + batch.get(0).id() + ")", e);
+        }
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(DELETE_SQL,
+                batch.stream().map(message -> new Object[] {message.id()}).toList()));
+        sample.stop(batchTimer);
+        recordDelivered(batch);
+        return batch.size();
+    }
+
+    /**
+     * relay 실행권 획득 또는 연장 (단일 UPDATE, 자동 커밋)
+     * @return 이 인스턴스가 lease를 가지고 있으면 true
+     */
+    private boolean acquireLease() {
+        LocalDateTime now = LocalDateTime.now();
+        return jdbcTemplate.update(ACQUIRE_LEASE_SQL,
+                owner, Timestamp.valueOf(now.plus(leaseDuration)), owner, Timestamp.valueOf(now)) == 1;
+    }
+
+    /**
+     * 종료 시 lease를 반납해 다른 레플리카가 만료를 기다리지 않고 이어서 전달
+     */
+    @PreDestroy
+    void releaseLease() {
+        try {
+            jdbcTemplate.update(RELEASE_LEASE_SQL, Timestamp.valueOf(LocalDateTime.of(1970, 1, 1, 0, 0)), owner);
+        } catch (RuntimeException e) {
+            log.debug("outbox relay lease 반납 실패: {}", e.getMessage());
+        }
+    }
+
+    private void recordDelivered(List<GuestOutboxMessage> batch) {
+        LocalDateTime now = LocalDateTime.now();
+        batch.forEach(message -> deliveryLag.record(Duration.between(message.createdAt(), now)));
+        published.increment(batch.size());
+    }
+
+    private void refreshOldestPendingAge() {
+        try {
+            Timestamp oldest = jdbcTemplate.queryForObject("SELECT MIN(created_at) FROM guest_outbox", Timestamp.class);
+            oldestPendingAgeMillis.set(oldest == null
+                    ? 0
+                    : Math.max(0, Duration.between(oldest.toLocalDateTime(), LocalDateTime.now()).toMillis()));
+        } catch (RuntimeException e) {
+            log.debug("outbox 대기 시간 갱신 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.guest.service.outbox;
+
+import java.util.List;
+
+/**
+ * outbox 전달 대상 (app.outbox.sink: log | file | webhook)
+ * - 배치는 id 오름차순이며, 예외 없이 반환해야 해당 배치가 전달된 것으로 보고 outbox에서 삭제
+ * - 예외가 발생하면 배치 전체를 다음 주기에 다시 전달 (일부만 성공한 경우에도 중복 전달될 수 있음)
+ */
+public interface GuestOutboxSink {
+
+    void publish(List<GuestOutboxMessage> messages) throws Exception;
+}
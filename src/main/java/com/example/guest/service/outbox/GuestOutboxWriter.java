@@ -0,0 +1,86 @@
+package com.example.guest.service.outbox;
+
+import com.example.guest.service.event.GuestChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 참가자 변경 이벤트를 발생한 트랜잭션 안에서 guest_outbox에 기록
+ * - 트랜잭션 중 발생한 이벤트를 모아 커밋 직전에 batch INSERT 한 번으로 저장 (일괄 등록/변경도 INSERT 1회)
+ * - INSERT가 실패하면 참가자 변경도 함께 롤백되고, 롤백된 변경은 outbox에 남지 않음
+ */
+@Component
+@ConditionalOnProperty(name = "app.outbox.enabled", havingValue = "true", matchIfMissing = true)
+public class GuestOutboxWriter {
+
+    static final String INSERT_SQL = "INSERT INTO guest_outbox (event_type, appointment_id, guest_id, payload, created_at) "
+            + "VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    public GuestOutboxWriter(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    @EventListener
+    public void onGuestChanged(GuestChangedEvent event) {
+        Object[] row = toRow(event);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            jdbcTemplate.update(INSERT_SQL, row);
+            return;
+        }
+        pendingRows().add(row);
+    }
+
+    /**
+     * 현재 트랜잭션에 묶인 미기록 행 목록 (첫 이벤트에서 만들고 커밋 직전 기록 콜백을 등록)
+     */
+    @SuppressWarnings("unchecked")
+    private List<Object[]> pendingRows() {
+        List<Object[]> pending = (List<Object[]>) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+        List<Object[]> rows = new ArrayList<>();
+        TransactionSynchronizationManager.bindResource(this, rows);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(GuestOutboxWriter.this);
+            }
+        });
+        return rows;
+    }
+
+    private Object[] toRow(GuestChangedEvent event) {
+        try {
+            return new Object[] {
+                event.type().eventName(),
+                event.appointmentId(),
+                event.guestId(),
+                objectMapper.writeValueAsString(event.toResponse()),
+                Timestamp.valueOf(event.occurredAt())
+            };
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("outbox payload 직렬화 실패 - guestId: " + event.guestId(), e);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.guest.service.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+
+/**
+ * outbox 이벤트를 "guest.outbox" 로거에 한 건당 한 줄(JSON)로 기록 (기본 sink)
+ */
+@Slf4j(topic = "guest.outbox")
+public class LogOutboxSink implements GuestOutboxSink {
+
+    private final ObjectMapper objectMapper;
+
+    public LogOutboxSink(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void publish(List<GuestOutboxMessage> messages) throws Exception {
+        for (GuestOutboxMessage message : messages) {
+            log.info("{}", objectMapper.writeValueAsString(message));
+        }
+    }
+}
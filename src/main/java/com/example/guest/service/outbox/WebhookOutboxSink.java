@@ -0,0 +1,34 @@
+package com.example.guest.service.outbox;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * outbox 배치를 HTTP webhook으로 전달 (POST, 본문은 GuestOutboxMessage JSON 배열)
+ * - 2xx 응답을 받아야 전달 완료로 처리하고, 그 외 응답/timeout은 배치 전체 재전달
+ * - 수신 측은 id로 중복을 제거해야 함 (at-least-once)
+ */
+public class WebhookOutboxSink implements GuestOutboxSink {
+
+    private final WebClient webClient;
+
+    private final Duration timeout;
+
+    public WebhookOutboxSink(WebClient webClient, Duration timeout) {
+        this.webClient = webClient;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public void publish(List<GuestOutboxMessage> messages) {
+        webClient.post()
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(messages)
+                .retrieve()
+                .toBodilessEntity()
+                .block(timeout);
+    }
+}
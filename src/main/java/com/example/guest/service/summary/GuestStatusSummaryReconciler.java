@@ -0,0 +1,86 @@
+package com.example.guest.service.summary;
+
+import com.example.guest.repository.GuestStatusCountRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * guest_status_counts 주기 보정
+ * - 실제 참가자 수(GROUP BY 1회)와 요약 값을 비교해 다른 약속만 골라냄
+ * - 골라낸 약속은 약속마다 트랜잭션 하나에서 요약 행을 잠근 뒤 다시 세어 교체
+ *   (비교 시점에 진행 중이던 변경 때문에 달라 보인 경우는 다시 센 값이 요약과 같아 그대로 유지)
+ */
+@Component
+@ConditionalOnProperty(name = "app.guest-summary.reconcile-enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class GuestStatusSummaryReconciler {
+
+    private final GuestStatusCountRepository countRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter corrected;
+
+    private final Timer reconcileTimer;
+
+    public GuestStatusSummaryReconciler(GuestStatusCountRepository countRepository,
+                                        PlatformTransactionManager transactionManager,
+                                        MeterRegistry meterRegistry) {
+        this.countRepository = countRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.corrected = Counter.builder("guest.summary.reconcile.corrected")
+                .description("요약 값이 실제와 달라 보정한 약속 수")
+                .register(meterRegistry);
+        this.reconcileTimer = Timer.builder("guest.summary.reconcile")
+                .description("상태별 요약 보정 소요 시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${app.guest-summary.reconcile-interval:10m}",
+            fixedDelayString = "${app.guest-summary.reconcile-interval:10m}")
+    public void scheduledReconcile() {
+        try {
+            reconcile();
+        } catch (RuntimeException e) {
+            log.warn("상태별 요약 보정 실패 - 다음 주기에 재시도: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * @return 보정한 약속 수
+     */
+    public int reconcile() {
+        return reconcileTimer.record(() -> {
+            Map<String, Map<String, Long>> actual = countRepository.countAllGuests();
+            Map<String, Map<String, Long>> summary = countRepository.findAllCounts();
+            Set<String> appointmentIds = new HashSet<>(actual.keySet());
+            appointmentIds.addAll(summary.keySet());
+
+            int fixed = 0;
+            for (String appointmentId : appointmentIds) {
+                if (actual.getOrDefault(appointmentId, Map.of()).equals(summary.getOrDefault(appointmentId, Map.of()))) {
+                    continue;
+                }
+                Boolean replaced = transactionTemplate.execute(status -> countRepository.replaceWithActualCounts(appointmentId));
+                if (Boolean.TRUE.equals(replaced)) {
+                    fixed++;
+                    log.warn("상태별 요약 보정 - appointmentId: {}, 요약: {}, 실제: {}",
+                            appointmentId, summary.get(appointmentId), actual.get(appointmentId));
+                }
+            }
+            corrected.increment(fixed);
+            return fixed;
+        });
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.guest.service.summary;
+
+import com.example.guest.repository.GuestStatusCountRepository;
+import com.example.guest.service.event.GuestChangedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 참가자 변경 이벤트로 guest_status_counts를 증감 (변경과 같은 트랜잭션)
+ * - 트랜잭션 중 발생한 증감을 (약속, 상태)별로 합쳐 커밋 직전에 batch upsert 한 번으로 적용
+ * - 등록 +1, 삭제 -1(삭제 전 상태), 상태 변경은 이전 상태 -1 / 새 상태 +1
+ */
+@Component
+public class GuestStatusSummaryWriter {
+
+    private final GuestStatusCountRepository countRepository;
+
+    public GuestStatusSummaryWriter(GuestStatusCountRepository countRepository) {
+        this.countRepository = countRepository;
+    }
+
+    @EventListener
+    public void onGuestChanged(GuestChangedEvent event) {
+        Map<String, Map<String, Long>> deltas = new HashMap<>();
+        collect(deltas, event);
+        if (deltas.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            countRepository.applyDeltas(deltas);
+            return;
+        }
+        Map<String, Map<String, Long>> pending = pendingDeltas();
+        deltas.forEach((appointmentId, byStatus) -> byStatus.forEach((status, delta) ->
+                pending.computeIfAbsent(appointmentId, id -> new HashMap<>()).merge(status, delta, Long::sum)));
+    }
+
+    private static void collect(Map<String, Map<String, Long>> deltas, GuestChangedEvent event) {
+        switch (event.type()) {
+            case CREATED -> add(deltas, event.appointmentId(), event.guestStatus(), 1);
+            case DELETED -> add(deltas, event.appointmentId(), event.previousStatus(), -1);
+            case STATUS_CHANGED -> {
+                if (event.previousStatus() == null || !event.previousStatus().equals(event.guestStatus())) {
+                    add(deltas, event.appointmentId(), event.previousStatus(), -1);
+                    add(deltas, event.appointmentId(), event.guestStatus(), 1);
+                }
+            }
+        }
+    }
+
+    private static void add(Map<String, Map<String, Long>> deltas, String appointmentId, String status, long delta) {
+        if (status == null) {
+            // 상태가 없는 참가자는 요약 대상이 아님 (reconciler도 제외)
+            return;
+        }
+        deltas.computeIfAbsent(appointmentId, id -> new HashMap<>()).merge(status, delta, Long::sum);
+    }
+
+    /**
+     * 현재 트랜잭션에 묶인 미적용 증감 (첫 이벤트에서 만들고 커밋 직전 적용 콜백을 등록)
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Map<String, Long>> pendingDeltas() {
+        Map<String, Map<String, Long>> pending =
+                (Map<String, Map<String, Long>>) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+        Map<String, Map<String, Long>> deltas = new HashMap<>();
+        TransactionSynchronizationManager.bindResource(this, deltas);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                countRepository.applyDeltas(deltas);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(GuestStatusSummaryWriter.this);
+            }
+        });
+        return deltas;
+    }
+}
@@ -0,0 +1,444 @@
+package com.example.guest.service.writebehind;
+
+import com.example.guest.dto.response.GuestResponse;
+import com.example.guest.repository.GuestListVersion;
+import com.example.guest.repository.GuestStatusVersion;
+import com.example.guest.service.event.GuestChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 참가자 단건 상태 변경 write-behind (app.status-write-behind.enabled=true일 때만 동작)
+ * - 변경은 append-only 로그에 기록한 뒤 바로 응답하고, 참가자별로 마지막 상태만 버퍼에 남김
+ *   (로그 fsync는 동시에 들어온 변경끼리 한 번에 묶어서 처리하는 group commit)
+ * - flush-interval마다 버퍼를 batch UPDATE 한 번으로 DB에 반영 (이미 더 최근에 변경된 행은 덮어쓰지 않음)
+ * - 조회는 버퍼 값을 DB 조회 결과에 덮어써서 반환
+ * - 시작 시 남아 있는 로그를 다시 읽어 버퍼를 복구 (비정상 종료 후 재시작)
+ * - 버퍼는 노드 로컬이므로 다른 레플리카는 flush 이후에 변경을 봄
+ */
+@Component
+@Slf4j
+public class GuestStatusWriteBehind {
+
+    private static final String LOCK_SQL = "SELECT guest_id, appointment_id, user_id, guest_status, updated_at "
+            + "FROM guests WHERE guest_id IN (%s) FOR UPDATE";
+
+    private static final String UPDATE_SQL = "UPDATE guests SET guest_status = ?, updated_at = ? "
+            + "WHERE appointment_id = ? AND guest_id = ? AND updated_at < ?";
+
+    /**
+     * 잠금 조회 한 번에 넣는 guest_id 수
+     */
+    private static final int LOCK_CHUNK_SIZE = 500;
+
+    private static final String UNKNOWN_USER = "";
+
+    private final boolean enabled;
+
+    private final Path logDirectory;
+
+    private final boolean fsync;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * appointmentId → (guestId → 버퍼 값)
+     * 안쪽 map은 바깥 map의 compute/computeIfPresent 안에서만 변경 (비면 바깥 map에서 제거)
+     */
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, PendingGuestStatus>> pending = new ConcurrentHashMap<>();
+
+    /**
+     * userId → 버퍼 값 수 (pending의 compute 안에서 증감, 0이 되면 제거)
+     * user_id가 없던 로그를 복구한 값은 UNKNOWN_USER로 셈
+     */
+    private final ConcurrentHashMap<String, Integer> pendingByUser = new ConcurrentHashMap<>();
+
+    /**
+     * 로그 기록과 버퍼 반영 순서를 맞추고, segment 전환 중 기록을 막음
+     */
+    private final ReentrantLock logLock = new ReentrantLock();
+
+    /**
+     * 주기 flush와 종료 시 flush가 겹치지 않도록 함
+     */
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private StatusAppendLog appendLog;
+
+    private long sequence;
+
+    private final Counter accepted;
+
+    private final Counter coalesced;
+
+    private final Counter flushed;
+
+    private final Counter flushFailures;
+
+    private final Timer flushTimer;
+
+    public GuestStatusWriteBehind(@Value("${app.status-write-behind.enabled:false}") boolean enabled,
+                                  @Value("${app.status-write-behind.log-dir:./data/status-log}") String logDirectory,
+                                  @Value("${app.status-write-behind.fsync:true}") boolean fsync,
+                                  JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager,
+                                  ApplicationEventPublisher eventPublisher,
+                                  ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.logDirectory = Path.of(logDirectory);
+        this.fsync = fsync;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+
+        Gauge.builder("guest.status.write_behind.pending", pending, GuestStatusWriteBehind::countPending)
+                .description("DB 반영 대기 중인 참가자 상태 수")
+                .register(meterRegistry);
+        this.accepted = Counter.builder("guest.status.write_behind.accepted")
+                .description("버퍼에 접수한 상태 변경 수")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("guest.status.write_behind.coalesced")
+                .description("DB 반영 전에 더 새로운 변경으로 대체된 상태 변경 수")
+                .register(meterRegistry);
+        this.flushed = Counter.builder("guest.status.write_behind.flushed")
+                .description("batch UPDATE로 반영한 참가자 수")
+                .register(meterRegistry);
+        this.flushFailures = Counter.builder("guest.status.write_behind.flush.failures")
+                .description("실패한 flush 수 (버퍼와 로그를 유지하고 다음 주기에 재시도)")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("guest.status.write_behind.flush")
+                .description("버퍼 flush 소요 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 남은 로그를 읽어 버퍼 복구 (참가자별 seq가 가장 큰 값), 이후 첫 flush에서 DB 반영
+     */
+    @PostConstruct
+    void recover() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        appendLog = new StatusAppendLog(logDirectory, objectMapper, fsync);
+        List<PendingGuestStatus> replayed = appendLog.replayAndOpen();
+        for (PendingGuestStatus entry : replayed) {
+            sequence = Math.max(sequence, entry.seq());
+            pending.compute(entry.appointmentId(), (appointmentId, guests) -> {
+                ConcurrentHashMap<String, PendingGuestStatus> target = guests != null ? guests : new ConcurrentHashMap<>();
+                PendingGuestStatus current = target.get(entry.guestId());
+                if (current == null || entry.seq() > current.seq()) {
+                    replace(target, entry);
+                }
+                return target;
+            });
+        }
+        if (!replayed.isEmpty()) {
+            log.info("상태 write-behind 로그 복구 - {}건 (참가자 {}명)", replayed.size(), countPending(pending));
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 상태 변경 접수 (로그 기록 후 버퍼 반영, DB 쓰기 없음)
+     * - 로그 기록과 버퍼 반영만 logLock 안에서 하고, fsync 대기는 잠금 밖에서 group commit으로 (동시 접수는 fsync 한 번을 공유)
+     * - 로그가 디스크에 반영된 뒤에 반환 (fsync 실패 시 예외, 이미 버퍼에 반영된 값은 다음 flush에서 DB에 반영될 수 있음)
+     * @param currentStatus 호출자가 확인한 현재 상태 (버퍼 값이 있으면 버퍼 값 기준의 최초 DB 상태를 유지)
+     * @param updatedAt 변경 시각 (DB 정밀도인 마이크로초로 잘라 저장, flush 시 DB 값과 그대로 비교)
+     */
+    public PendingGuestStatus accept(String appointmentId, String guestId, String userId, String guestStatus,
+                                     String currentStatus, LocalDateTime updatedAt) {
+        PendingGuestStatus entry;
+        long position;
+        logLock.lock();
+        try {
+            ConcurrentHashMap<String, PendingGuestStatus> guests = pending.get(appointmentId);
+            PendingGuestStatus previous = guests != null ? guests.get(guestId) : null;
+            entry = new PendingGuestStatus(++sequence, appointmentId, guestId, userId, guestStatus,
+                    previous != null ? previous.previousStatus() : currentStatus, updatedAt.truncatedTo(ChronoUnit.MICROS));
+            position = appendLog.append(entry);
+            pending.compute(appointmentId, (id, current) -> {
+                ConcurrentHashMap<String, PendingGuestStatus> target = current != null ? current : new ConcurrentHashMap<>();
+                replace(target, entry);
+                return target;
+            });
+            accepted.increment();
+            if (previous != null) {
+                coalesced.increment();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("상태 변경 로그 기록 실패 - guestId: " + guestId, e);
+        } finally {
+            logLock.unlock();
+        }
+        try {
+            appendLog.sync(position);
+        } catch (IOException e) {
+            throw new UncheckedIOException("상태 변경 로그 fsync 실패 - guestId: " + guestId, e);
+        }
+        return entry;
+    }
+
+    public boolean hasPending() {
+        return !pending.isEmpty();
+    }
+
+    /**
+     * 해당 사용자의 참가자 중 DB 반영 대기 중인 값이 있는지
+     * (user_id 없이 복구된 값이 남아 있으면 누구의 값인지 모르므로 true)
+     */
+    public boolean hasPendingForUser(String userId) {
+        return pendingByUser.containsKey(userId) || pendingByUser.containsKey(UNKNOWN_USER);
+    }
+
+    /**
+     * 조회 결과에 버퍼 값 반영 (버퍼 값이 더 최근인 경우만)
+     */
+    public void overlay(Collection<GuestResponse> responses) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        responses.forEach(this::overlay);
+    }
+
+    public void overlay(GuestResponse response) {
+        PendingGuestStatus entry = find(response.getAppointment_id(), response.getGuest_id());
+        if (entry != null && isNewer(entry, response.getUpdated_at())) {
+            response.setGuest_status(entry.guestStatus());
+            response.setUpdated_at(entry.updatedAt());
+        }
+    }
+
+    public GuestStatusVersion overlay(String appointmentId, String guestId, GuestStatusVersion version) {
+        PendingGuestStatus entry = find(appointmentId, guestId);
+        if (entry == null || !isNewer(entry, version.updatedAt())) {
+            return version;
+        }
+        return new GuestStatusVersion(entry.guestStatus(), entry.updatedAt());
+    }
+
+    /**
+     * 목록 ETag에 버퍼 변경 반영 (약속의 버퍼 값 중 가장 최근 updated_at)
+     */
+    public GuestListVersion overlay(String appointmentId, GuestListVersion version) {
+        ConcurrentHashMap<String, PendingGuestStatus> guests = pending.get(appointmentId);
+        if (guests == null) {
+            return version;
+        }
+        LocalDateTime latest = version.lastUpdatedAt();
+        for (PendingGuestStatus entry : guests.values()) {
+            if (isNewer(entry, latest)) {
+                latest = entry.updatedAt();
+            }
+        }
+        return new GuestListVersion(version.count(), latest);
+    }
+
+    /**
+     * 상태별 인원에 버퍼 변경 반영 (버퍼에 들어오기 전 상태 -1, 버퍼 상태 +1)
+     */
+    public void overlayCounts(String appointmentId, Map<String, Long> counts) {
+        ConcurrentHashMap<String, PendingGuestStatus> guests = pending.get(appointmentId);
+        if (guests == null) {
+            return;
+        }
+        for (PendingGuestStatus entry : guests.values()) {
+            if (entry.guestStatus().equals(entry.previousStatus())) {
+                continue;
+            }
+            if (entry.previousStatus() != null) {
+                counts.merge(entry.previousStatus(), -1L, Long::sum);
+            }
+            counts.merge(entry.guestStatus(), 1L, Long::sum);
+        }
+        counts.values().removeIf(count -> count <= 0);
+    }
+
+    /**
+     * 버퍼를 batch UPDATE 한 번으로 반영
+     * - 로그 segment를 전환한 시점의 버퍼를 반영하고, 그 사이 더 새로 들어온 값은 버퍼에 남김
+     * - 대상 행을 먼저 잠가 조회하고, 버퍼 값보다 오래된 행만 UPDATE (삭제됐거나 다른 경로로 더 최근에 바뀐 행은 제외)
+     * - 실제로 바꾼 행마다 상태 변경 이벤트 발행 (previous_status는 잠금 조회한 DB 상태,
+     *   outbox 기록과 상태별 요약 증감은 같은 트랜잭션, SSE는 커밋 후)
+     * - 실패하면 버퍼와 로그를 그대로 두고 다음 주기에 다시 반영
+     */
+    @Scheduled(fixedDelayString = "${app.status-write-behind.flush-interval:500ms}")
+    public void flush() {
+        if (!enabled || pending.isEmpty()) {
+            return;
+        }
+        flushLock.lock();
+        try {
+            List<PendingGuestStatus> snapshot = new ArrayList<>();
+            long sealed;
+            logLock.lock();
+            try {
+                sealed = appendLog.rotate();
+                pending.values().forEach(guests -> snapshot.addAll(guests.values()));
+            } finally {
+                logLock.unlock();
+            }
+            if (!snapshot.isEmpty()) {
+                flushTimer.record(() -> writeToDatabase(snapshot));
+            }
+            snapshot.forEach(this::removeIfUnchanged);
+            appendLog.deleteUpTo(sealed);
+        } catch (IOException | RuntimeException e) {
+            flushFailures.increment();
+            log.warn("상태 write-behind flush 실패 - 다음 주기에 재시도: {}", e.getMessage());
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        flush();
+        logLock.lock();
+        try {
+            appendLog.close();
+        } finally {
+            logLock.unlock();
+        }
+    }
+
+    private void writeToDatabase(List<PendingGuestStatus> snapshot) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<String, LockedGuest> locked = lockGuests(snapshot);
+            List<PendingGuestStatus> applied = new ArrayList<>();
+            List<Object[]> rows = new ArrayList<>();
+            for (PendingGuestStatus entry : snapshot) {
+                LockedGuest current = locked.get(entry.guestId());
+                // 없음: 삭제된 참가자 / updated_at이 같거나 더 최근: 이미 반영됐거나(로그 재생) 다른 경로로 변경됨
+                if (current == null || !current.appointmentId().equals(entry.appointmentId())
+                        || !current.updatedAt().isBefore(entry.updatedAt())) {
+                    continue;
+                }
+                Timestamp updatedAt = Timestamp.valueOf(entry.updatedAt());
+                rows.add(new Object[] {entry.guestStatus(), updatedAt, entry.appointmentId(), entry.guestId(), updatedAt});
+                applied.add(entry);
+            }
+            if (rows.isEmpty()) {
+                return;
+            }
+            // 대상 행은 잠겨 있으므로 골라낸 행은 모두 변경됨 (드라이버의 건별 결과에 의존하지 않음)
+            jdbcTemplate.batchUpdate(UPDATE_SQL, rows);
+            for (PendingGuestStatus entry : applied) {
+                LockedGuest current = locked.get(entry.guestId());
+                eventPublisher.publishEvent(GuestChangedEvent.statusChanged(entry.appointmentId(), entry.guestId(),
+                        entry.userId() != null ? entry.userId() : current.userId(),
+                        entry.guestStatus(), current.guestStatus(), entry.updatedAt()));
+            }
+            flushed.increment(applied.size());
+        });
+    }
+
+    /**
+     * 반영 대상 행을 잠가 현재 값 조회 (guest_id IN 목록을 LOCK_CHUNK_SIZE개씩)
+     */
+    private Map<String, LockedGuest> lockGuests(List<PendingGuestStatus> snapshot) {
+        Map<String, LockedGuest> locked = new HashMap<>();
+        List<String> guestIds = snapshot.stream().map(PendingGuestStatus::guestId).sorted().toList();
+        for (int from = 0; from < guestIds.size(); from += LOCK_CHUNK_SIZE) {
+            List<String> chunk = guestIds.subList(from, Math.min(from + LOCK_CHUNK_SIZE, guestIds.size()));
+            String sql = String.format(LOCK_SQL, String.join(", ", Collections.nCopies(chunk.size(), "?")));
+            jdbcTemplate.query(sql, rs -> {
+                locked.put(rs.getString("guest_id"), new LockedGuest(rs.getString("appointment_id"),
+                        rs.getString("user_id"), rs.getString("guest_status"),
+                        rs.getTimestamp("updated_at").toLocalDateTime()));
+            }, chunk.toArray());
+        }
+        return locked;
+    }
+
+    /**
+     * 반영한 값이 아직 버퍼의 최신 값이면 제거 (그 사이 새 값이 들어왔으면 유지)
+     */
+    private void removeIfUnchanged(PendingGuestStatus entry) {
+        pending.computeIfPresent(entry.appointmentId(), (appointmentId, guests) -> {
+            if (guests.remove(entry.guestId(), entry)) {
+                countUser(entry, -1);
+            }
+            return guests.isEmpty() ? null : guests;
+        });
+    }
+
+    /**
+     * 버퍼 값 교체와 사용자별 수 증감 (pending의 compute 안에서 호출, 새 값을 먼저 세어 조회가 놓치지 않게 함)
+     */
+    private void replace(Map<String, PendingGuestStatus> guests, PendingGuestStatus entry) {
+        countUser(entry, 1);
+        PendingGuestStatus replaced = guests.put(entry.guestId(), entry);
+        if (replaced != null) {
+            countUser(replaced, -1);
+        }
+    }
+
+    private void countUser(PendingGuestStatus entry, int delta) {
+        pendingByUser.merge(entry.userId() != null ? entry.userId() : UNKNOWN_USER, delta,
+                (current, change) -> current + change == 0 ? null : current + change);
+    }
+
+    private PendingGuestStatus find(String appointmentId, String guestId) {
+        if (appointmentId == null || guestId == null) {
+            return null;
+        }
+        Map<String, PendingGuestStatus> guests = pending.get(appointmentId);
+        return guests != null ? guests.get(guestId) : null;
+    }
+
+    /**
+     * flush 시 잠금 조회한 참가자 행
+     */
+    private record LockedGuest(String appointmentId, String userId, String guestStatus, LocalDateTime updatedAt) {
+    }
+
+    private static boolean isNewer(PendingGuestStatus entry, LocalDateTime updatedAt) {
+        return updatedAt == null || !entry.updatedAt().isBefore(updatedAt);
+    }
+
+    private static double countPending(Map<String, ? extends Map<String, PendingGuestStatus>> pending) {
+        return pending.values().stream().mapToInt(Map::size).sum();
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.guest.service.writebehind;
+
+import java.time.LocalDateTime;
+
+/**
+ * DB 반영 전인 참가자 상태 (append-only 로그 한 줄, 버퍼의 값)
+ * @param seq 접수 순서 (같은 참가자는 seq가 큰 값이 최종 상태)
+ * @param userId 참가자의 사용자 ID (이벤트 user_id, 이 필드가 없던 로그를 복구한 경우 null)
+ * @param previousStatus 버퍼에 처음 들어오기 전 DB 상태 (합쳐진 변경도 최초 값 유지, 이벤트 previous_status로 사용)
+ */
+public record PendingGuestStatus(long seq,
+                                 String appointmentId,
+                                 String guestId,
+                                 String userId,
+                                 String guestStatus,
+                                 String previousStatus,
+                                 LocalDateTime updatedAt) {
+}
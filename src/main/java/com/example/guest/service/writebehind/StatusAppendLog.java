@@ -0,0 +1,189 @@
+package com.example.guest.service.writebehind;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * 상태 변경 append-only 로그 (segment 파일 단위, 한 줄에 PendingGuestStatus JSON 하나)
+ * - flush 직전에 현재 segment를 닫고 새 segment로 전환, DB 반영이 끝난 segment는 삭제
+ * - append/rotate/close는 스레드 안전하지 않음 (GuestStatusWriteBehind가 잠금을 잡고 호출)
+ * - fsync는 group commit: append는 기록만 하고, sync에서 한 번의 force로 그때까지 기록된 줄을 모두 디스크에 반영
+ *   (force 중에 들어온 기록은 다음 force 한 번에 함께 반영)
+ */
+@Slf4j
+class StatusAppendLog {
+
+    private static final String PREFIX = "status-";
+    private static final String SUFFIX = ".log";
+
+    private final Path directory;
+
+    private final ObjectMapper objectMapper;
+
+    private final boolean fsync;
+
+    private FileChannel channel;
+
+    private long segment;
+
+    /**
+     * 지금까지 기록한 줄 수 (append 순번)
+     */
+    private volatile long written;
+
+    /**
+     * 디스크 반영이 끝난 마지막 append 순번
+     */
+    private volatile long durable;
+
+    /**
+     * force를 한 번에 하나만 실행하고, segment 전환 중 force를 막음
+     * (잠금 순서: 호출자의 잠금 → syncLock)
+     */
+    private final ReentrantLock syncLock = new ReentrantLock();
+
+    StatusAppendLog(Path directory, ObjectMapper objectMapper, boolean fsync) throws IOException {
+        this.directory = directory;
+        this.objectMapper = objectMapper;
+        this.fsync = fsync;
+        Files.createDirectories(directory);
+    }
+
+    /**
+     * 남아 있는 segment를 순서대로 읽어 반환하고, 그 다음 번호로 새 segment를 염
+     * 마지막 줄이 기록 도중 중단되어 깨진 경우 해당 줄만 건너뜀
+     */
+    List<PendingGuestStatus> replayAndOpen() throws IOException {
+        List<PendingGuestStatus> entries = new ArrayList<>();
+        long last = 0;
+        for (Path path : segments()) {
+            last = Math.max(last, segmentNumber(path));
+            try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    try {
+                        entries.add(objectMapper.readValue(line, PendingGuestStatus.class));
+                    } catch (IOException e) {
+                        log.warn("상태 로그의 깨진 줄 건너뜀 - file: {}, error: {}", path.getFileName(), e.getMessage());
+                    }
+                }
+            }
+        }
+        open(last + 1);
+        return entries;
+    }
+
+    /**
+     * 한 줄 기록 (디스크 반영은 sync에서)
+     * @return append 순번 (sync에 넘겨 이 줄까지 디스크에 반영될 때까지 대기)
+     */
+    long append(PendingGuestStatus entry) throws IOException {
+        byte[] json = objectMapper.writeValueAsBytes(entry);
+        ByteBuffer buffer = ByteBuffer.allocate(json.length + 1).put(json).put((byte) '\n').flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        return ++written;
+    }
+
+    /**
+     * position 순번의 줄까지 디스크에 반영될 때까지 대기 (호출자의 잠금 밖에서 호출)
+     * - 먼저 syncLock을 잡은 스레드가 그때까지 기록된 줄 전체를 force 한 번으로 반영
+     * - 기다리던 스레드는 자기 줄이 이미 반영됐으면 force 없이 반환
+     */
+    void sync(long position) throws IOException {
+        if (!fsync || durable >= position) {
+            return;
+        }
+        syncLock.lock();
+        try {
+            if (durable >= position) {
+                return;
+            }
+            long target = written;
+            channel.force(false);
+            durable = target;
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * 현재 segment를 닫고 다음 segment로 전환
+     * @return 닫은 segment 번호 (이 번호 이하의 segment는 flush 성공 후 삭제 가능)
+     */
+    long rotate() throws IOException {
+        syncLock.lock();
+        try {
+            long sealed = segment;
+            long target = written;
+            channel.force(false);
+            durable = target;
+            channel.close();
+            open(sealed + 1);
+            return sealed;
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    void deleteUpTo(long sealed) throws IOException {
+        for (Path path : segments()) {
+            if (segmentNumber(path) <= sealed) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    void close() throws IOException {
+        syncLock.lock();
+        try {
+            if (channel != null && channel.isOpen()) {
+                long target = written;
+                channel.force(false);
+                durable = target;
+                channel.close();
+            }
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private void open(long number) throws IOException {
+        segment = number;
+        channel = FileChannel.open(directory.resolve(String.format("%s%020d%s", PREFIX, number, SUFFIX)),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static long segmentNumber(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+}
@@ -0,0 +1,11 @@
+-- guests 테이블
+-- 기존 ddl-auto로 테이블이 만들어진 DB는 baseline(V1)으로 등록되어 이 스크립트를 건너뜀
+CREATE TABLE IF NOT EXISTS guests (
+    guest_id       VARCHAR(255) NOT NULL,
+    appointment_id VARCHAR(255) NOT NULL,
+    user_id        VARCHAR(255) NOT NULL,
+    guest_status   VARCHAR(50)  DEFAULT 'coming',
+    created_at     DATETIME(6)  NOT NULL,
+    updated_at     DATETIME(6)  NOT NULL,
+    PRIMARY KEY (guest_id)
+);
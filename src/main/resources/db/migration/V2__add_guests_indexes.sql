@@ -0,0 +1,12 @@
+-- 동일 약속에 같은 사용자가 중복 등록된 행이 있으면 아래 제약 추가가 실패하고 마이그레이션이 중단됨
+-- 행을 자동으로 지우지 않음: README "중복 참가 행 정리 (V2 적용 실패 시)" 절차로 확인/백업 후 직접 정리하고 다시 시작
+-- (제약 추가를 첫 문장으로 두어 실패 시 이 마이그레이션의 어떤 변경도 적용되지 않음)
+
+-- (appointment_id, user_id): 중복 등록 방지 + appointment_id 단독 조회
+ALTER TABLE guests ADD CONSTRAINT uk_guests_appointment_user UNIQUE (appointment_id, user_id);
+
+-- (appointment_id, guest_status): 약속별 상태 조회
+CREATE INDEX idx_guests_appointment_status ON guests (appointment_id, guest_status);
+
+-- (user_id, guest_status): 사용자별 조회 + 사용자/상태 조회
+CREATE INDEX idx_guests_user_status ON guests (user_id, guest_status);
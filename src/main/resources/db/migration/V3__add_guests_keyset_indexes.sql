@@ -0,0 +1,3 @@
+-- 목록 keyset 페이지네이션 (ORDER BY created_at, guest_id)
+CREATE INDEX idx_guests_appointment_created ON guests (appointment_id, created_at, guest_id);
+CREATE INDEX idx_guests_user_created ON guests (user_id, created_at, guest_id);
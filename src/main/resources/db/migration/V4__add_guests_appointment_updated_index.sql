@@ -0,0 +1,2 @@
+-- 참가자 목록 ETag 계산 (COUNT, MAX(updated_at) WHERE appointment_id = ?)을 인덱스만으로 처리
+CREATE INDEX idx_guests_appointment_updated ON guests (appointment_id, updated_at);
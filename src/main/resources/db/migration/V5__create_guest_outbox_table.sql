@@ -0,0 +1,11 @@
+-- 참가자 변경 이벤트 outbox
+-- 참가자 등록/상태 변경/삭제와 같은 트랜잭션에서 기록하고, GuestOutboxRelay가 id 순서로 전달한 뒤 삭제
+CREATE TABLE guest_outbox (
+    id             BIGINT       NOT NULL AUTO_INCREMENT,
+    event_type     VARCHAR(32)  NOT NULL,
+    appointment_id VARCHAR(255) NOT NULL,
+    guest_id       VARCHAR(255) NOT NULL,
+    payload        TEXT         NOT NULL,
+    created_at     DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id)
+);
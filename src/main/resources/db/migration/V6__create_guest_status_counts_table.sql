@@ -0,0 +1,15 @@
+-- 약속별 상태별 참가자 수 요약 (GET /appointments/{id}/guests/summary)
+-- 참가자 등록/상태 변경/삭제 트랜잭션에서 증감하고, GuestStatusSummaryReconciler가 주기적으로 실제 값과 맞춤
+CREATE TABLE guest_status_counts (
+    appointment_id VARCHAR(255) NOT NULL,
+    guest_status   VARCHAR(50)  NOT NULL,
+    guest_count    BIGINT       NOT NULL,
+    PRIMARY KEY (appointment_id, guest_status)
+);
+
+-- 기존 참가자 기준 초기값
+INSERT INTO guest_status_counts (appointment_id, guest_status, guest_count)
+SELECT appointment_id, guest_status, COUNT(*)
+FROM guests
+WHERE guest_status IS NOT NULL
+GROUP BY appointment_id, guest_status;
@@ -0,0 +1,10 @@
+-- outbox relay 실행권 (레플리카 중 하나만 전달하도록 lease로 관리)
+-- sink 전달 중에는 DB 잠금을 잡지 않으므로, 전달 순서는 이 lease로 보장
+CREATE TABLE guest_outbox_lease (
+    name        VARCHAR(64)  NOT NULL,
+    owner       VARCHAR(255),
+    lease_until DATETIME(6)  NOT NULL,
+    PRIMARY KEY (name)
+);
+
+INSERT INTO guest_outbox_lease (name, owner, lease_until) VALUES ('relay', NULL, '1970-01-01 00:00:00');
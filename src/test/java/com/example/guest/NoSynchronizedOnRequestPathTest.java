@@ -0,0 +1,43 @@
+package com.example.guest;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * virtual thread 모드에서 carrier 스레드 pinning을 일으키는 synchronized 사용을 막음
+ * (대기가 필요한 동기화는 ReentrantLock 등 java.util.concurrent 사용)
+ */
+class NoSynchronizedOnRequestPathTest {
+
+    private static final Pattern SYNCHRONIZED = Pattern.compile("\\bsynchronized\\b");
+
+    @Test
+    void mainSourcesDoNotUseSynchronized() throws IOException {
+        try (Stream<Path> files = Files.walk(Path.of("src/main/java"))) {
+            List<String> offenders = files
+                    .filter(path -> path.toString().endsWith(".java"))
+                    .filter(path -> SYNCHRONIZED.matcher(read(path)).find())
+                    .map(Path::toString)
+                    .toList();
+
+            assertThat(offenders).as("synchronized in main sources").isEmpty();
+        }
+    }
+
+    private static String read(Path path) {
+        try {
+            return Files.readString(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
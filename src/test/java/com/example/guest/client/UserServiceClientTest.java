@@ -0,0 +1,107 @@
+package com.example.guest.client;
+
+import com.example.guest.dto.UserResponse;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UserServiceClientTest {
+
+    private static final String USER_JSON =
+            "{\"success\":true,\"message\":\"ok\",\"data\":{\"userId\":\"user1\",\"username\":\"tester\"}}";
+
+    @Test
+    void concurrentLookupsForSameUserShareOneDownstreamCall() throws Exception {
+        int callers = 32;
+        AtomicInteger downstreamCalls = new AtomicInteger();
+        ExchangeFunction exchange = request -> {
+            downstreamCalls.incrementAndGet();
+            return Mono.delay(Duration.ofMillis(300))
+                    .thenReturn(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body(USER_JSON)
+                            .build());
+        };
+        UserServiceClient client = new UserServiceClient(
+                WebClient.builder().exchangeFunction(exchange).build(),
+                new ResponseCache<>("users", Duration.ofMinutes(1), Duration.ZERO, Duration.ofMinutes(1), 100),
+                new DownstreamGuard(
+                        new RetryPolicy(3, Duration.ofMillis(10), Duration.ofMillis(50), 0.5,
+                                Duration.ofSeconds(2), Duration.ofSeconds(5), Set.of(502, 503, 504)),
+                        CircuitBreaker.ofDefaults("user"),
+                        Bulkhead.ofDefaults("user"),
+                        true));
+
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<UserResponse>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return client.getUserById("user1");
+                }));
+            }
+            start.countDown();
+
+            for (Future<UserResponse> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS).getUsername()).isEqualTo("tester");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(downstreamCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void missingUserIsEmptyButDownstreamFailurePropagates() {
+        UserServiceClient client = client(request -> Mono.just(ClientResponse.create(
+                request.url().getPath().endsWith("/missing") ? HttpStatus.NOT_FOUND : HttpStatus.INTERNAL_SERVER_ERROR)
+                .build()));
+
+        assertThat(client.lookupUser("missing").block()).isEqualTo(Optional.empty());
+        assertThat(client.getUserById("missing")).isNull();
+
+        assertThatThrownBy(() -> client.lookupUser("broken").block())
+                .isInstanceOf(DownstreamUnavailableException.class);
+        assertThatThrownBy(() -> client.getUserById("broken"))
+                .isInstanceOf(DownstreamUnavailableException.class);
+        assertThatThrownBy(() -> client.lookupUsers(List.of("missing", "broken"), 2).block())
+                .isInstanceOf(DownstreamUnavailableException.class);
+    }
+
+    private static UserServiceClient client(ExchangeFunction exchange) {
+        return new UserServiceClient(
+                WebClient.builder().exchangeFunction(exchange).build(),
+                new ResponseCache<>("users", Duration.ofMinutes(1), Duration.ZERO, Duration.ofMinutes(1), 100),
+                new DownstreamGuard(
+                        new RetryPolicy(3, Duration.ofMillis(10), Duration.ofMillis(50), 0.5,
+                                Duration.ofSeconds(2), Duration.ofSeconds(5), Set.of(502, 503, 504)),
+                        CircuitBreaker.ofDefaults("user"),
+                        Bulkhead.ofDefaults("user"),
+                        false));
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.guest.controller;
+
+import com.example.guest.client.AppointmentServiceClient;
+import com.example.guest.client.UserServiceClient;
+import com.example.guest.entity.Guest;
+import com.example.guest.repository.GuestRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 여러 약속의 참가자 목록 조회: 약속 확인 한 번, IN 쿼리 1회, 약속별 그룹핑
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "app.guest-batch.max-appointments=3"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class GuestControllerBatchReadTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private GuestRepository guestRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    private AppointmentServiceClient appointmentServiceClient;
+
+    @MockitoBean
+    private UserServiceClient userServiceClient;
+
+    @BeforeEach
+    void setUp() {
+        guestRepository.deleteAllInBatch();
+        saveGuest("guest-multi-1", "appt-multi-1", "user-multi-1");
+        saveGuest("guest-multi-2", "appt-multi-1", "user-multi-2");
+        saveGuest("guest-multi-3", "appt-multi-2", "user-multi-1");
+        given(appointmentServiceClient.lookupAppointments(List.of("appt-multi-1", "appt-multi-2", "appt-multi-3"), 16))
+                .willReturn(Mono.just(Set.of("appt-multi-1", "appt-multi-2", "appt-multi-3")));
+        given(appointmentServiceClient.lookupAppointments(List.of("appt-multi-2", "appt-missing"), 16))
+                .willReturn(Mono.just(Set.of("appt-multi-2")));
+    }
+
+    @Test
+    void guestsAreGroupedByAppointmentWithSingleQuery() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(get("/appointments/guests")
+                        .param("appointment_ids", "appt-multi-1,appt-multi-2,appt-multi-3,appt-multi-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data['appt-multi-1'].length()").value(2))
+                .andExpect(jsonPath("$.data['appt-multi-2'][0].guest_id").value("guest-multi-3"))
+                .andExpect(jsonPath("$.data['appt-multi-3'].length()").value(0))
+                .andExpect(jsonPath("$.not_found.length()").value(0));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void missingAppointmentsAreReportedWithoutGuests() throws Exception {
+        mockMvc.perform(get("/appointments/guests").param("appointment_ids", "appt-multi-2", "appt-missing"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andExpect(jsonPath("$.data['appt-multi-2'].length()").value(1))
+                .andExpect(jsonPath("$.not_found[0]").value("appt-missing"));
+    }
+
+    @Test
+    void tooManyAppointmentsAreRejectedBeforeDownstreamLookup() throws Exception {
+        mockMvc.perform(get("/appointments/guests")
+                        .param("appointment_ids", "appt-multi-1,appt-multi-2,appt-multi-3,appt-missing"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/appointments/guests"))
+                .andExpect(status().isBadRequest());
+
+        verify(appointmentServiceClient, never()).lookupAppointments(anyCollection(), anyInt());
+    }
+
+    private void saveGuest(String guestId, String appointmentId, String userId) {
+        LocalDateTime now = LocalDateTime.now();
+        guestRepository.save(Guest.builder()
+                .guest_id(guestId)
+                .appointment_id(appointmentId)
+                .user_id(userId)
+                .guest_status("coming")
+                .created_at(now)
+                .updated_at(now)
+                .build());
+    }
+}
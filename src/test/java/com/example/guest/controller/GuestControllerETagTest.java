@@ -0,0 +1,137 @@
+package com.example.guest.controller;
+
+import com.example.guest.client.AppointmentServiceClient;
+import com.example.guest.client.UserServiceClient;
+import com.example.guest.entity.Guest;
+import com.example.guest.repository.GuestRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 참가자 목록/상태 조회의 ETag, If-None-Match(304) 처리
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class GuestControllerETagTest {
+
+    private static final String APPOINTMENT_ID = "appt-etag";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private GuestRepository guestRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private AppointmentServiceClient appointmentServiceClient;
+
+    @MockitoBean
+    private UserServiceClient userServiceClient;
+
+    @BeforeEach
+    void setUp() {
+        guestRepository.deleteAllInBatch();
+        saveGuest("guest-etag-1", "user-etag-1");
+        given(appointmentServiceClient.existsAppointment(APPOINTMENT_ID)).willReturn(true);
+    }
+
+    @Test
+    void unchangedGuestListReturnsNotModifiedWithoutLoadingRows() throws Exception {
+        String etag = mockMvc.perform(get("/appointments/{id}/guests", APPOINTMENT_ID))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-cache"))
+                .andReturn().getResponse().getHeader("ETag");
+        assertThat(etag).isNotBlank();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(get("/appointments/{id}/guests", APPOINTMENT_ID).header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(""));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void guestListETagChangesWhenGuestIsAddedOrUpdated() throws Exception {
+        String initial = guestListETag();
+
+        saveGuest("guest-etag-2", "user-etag-2");
+        String afterInsert = guestListETag();
+        assertThat(afterInsert).isNotEqualTo(initial);
+
+        updateStatus("guest-etag-1", "late");
+        String afterUpdate = guestListETag();
+        assertThat(afterUpdate).isNotEqualTo(afterInsert);
+
+        mockMvc.perform(get("/appointments/{id}/guests", APPOINTMENT_ID).header("If-None-Match", initial))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void unchangedGuestStatusReturnsNotModified() throws Exception {
+        String etag = mockMvc.perform(get("/appointments/{id}/guests/{guestId}/guest_status", APPOINTMENT_ID, "guest-etag-1"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/appointments/{id}/guests/{guestId}/guest_status", APPOINTMENT_ID, "guest-etag-1")
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        updateStatus("guest-etag-1", "late");
+        mockMvc.perform(get("/appointments/{id}/guests/{guestId}/guest_status", APPOINTMENT_ID, "guest-etag-1")
+                        .header("If-None-Match", etag))
+                .andExpect(status().isOk());
+    }
+
+    private String guestListETag() throws Exception {
+        return mockMvc.perform(get("/appointments/{id}/guests", APPOINTMENT_ID))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+    }
+
+    private void updateStatus(String guestId, String guestStatus) {
+        jdbcTemplate.update("UPDATE guests SET guest_status = ?, updated_at = ? WHERE guest_id = ?",
+                guestStatus, LocalDateTime.now().plusSeconds(1), guestId);
+    }
+
+    private void saveGuest(String guestId, String userId) {
+        LocalDateTime now = LocalDateTime.now();
+        guestRepository.save(Guest.builder()
+                .guest_id(guestId)
+                .appointment_id(APPOINTMENT_ID)
+                .user_id(userId)
+                .guest_status("coming")
+                .created_at(now)
+                .updated_at(now)
+                .build());
+    }
+}
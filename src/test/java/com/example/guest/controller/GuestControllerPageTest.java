@@ -0,0 +1,136 @@
+package com.example.guest.controller;
+
+import com.example.guest.client.AppointmentServiceClient;
+import com.example.guest.client.UserServiceClient;
+import com.example.guest.entity.Guest;
+import com.example.guest.repository.GuestRepository;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * keyset 페이지 API: 잘못된 cursor는 400, NDJSON 스트리밍은 페이지(max-size=2) 경계를 넘어 전체를 한 번씩 기록
+ */
+@SpringBootTest(properties = "app.pagination.max-size=2")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class GuestControllerPageTest {
+
+    private static final String APPOINTMENT_ID = "appt-page-api";
+    private static final String USER_ID = "user-page-api";
+    private static final LocalDateTime TIED = LocalDateTime.of(2024, 1, 15, 10, 30, 0);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private GuestRepository guestRepository;
+
+    @MockitoBean
+    private AppointmentServiceClient appointmentServiceClient;
+
+    @MockitoBean
+    private UserServiceClient userServiceClient;
+
+    @BeforeEach
+    void setUp() {
+        guestRepository.deleteAllInBatch();
+        for (String suffix : List.of("e", "c", "a", "d", "b")) {
+            saveGuest("guest-api-" + suffix, APPOINTMENT_ID, "user-api-" + suffix,
+                    suffix.equals("e") ? TIED.plusMinutes(1) : TIED);
+        }
+        for (String suffix : List.of("3", "1", "2")) {
+            saveGuest("guest-api-user-" + suffix, "appt-page-api-" + suffix, USER_ID, TIED);
+        }
+        given(appointmentServiceClient.existsAppointment(APPOINTMENT_ID)).willReturn(true);
+    }
+
+    @Test
+    void malformedCursorIsBadRequest() throws Exception {
+        mockMvc.perform(get("/appointments/" + APPOINTMENT_ID + "/guests").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").exists());
+        mockMvc.perform(get("/appointments/guests/user/" + USER_ID).param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").exists());
+    }
+
+    @Test
+    void nextCursorContinuesAfterTiedCreatedAt() throws Exception {
+        MvcResult first = mockMvc.perform(get("/appointments/" + APPOINTMENT_ID + "/guests").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].guest_id").value("guest-api-a"))
+                .andExpect(jsonPath("$.data[1].guest_id").value("guest-api-b"))
+                .andExpect(jsonPath("$.has_next").value(true))
+                .andReturn();
+        String cursor = JsonPath.read(first.getResponse().getContentAsString(), "$.next_cursor");
+
+        mockMvc.perform(get("/appointments/" + APPOINTMENT_ID + "/guests").param("cursor", cursor).param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].guest_id").value("guest-api-c"))
+                .andExpect(jsonPath("$.data[1].guest_id").value("guest-api-d"))
+                .andExpect(jsonPath("$.has_next").value(true));
+    }
+
+    @Test
+    void appointmentNdjsonStreamsEveryGuestOnceAcrossPages() throws Exception {
+        assertThat(streamGuestIds("/appointments/" + APPOINTMENT_ID + "/guests"))
+                .containsExactly("guest-api-a", "guest-api-b", "guest-api-c", "guest-api-d", "guest-api-e");
+    }
+
+    @Test
+    void userNdjsonStreamsEveryGuestOnceAcrossPages() throws Exception {
+        assertThat(streamGuestIds("/appointments/guests/user/" + USER_ID))
+                .containsExactly("guest-api-user-1", "guest-api-user-2", "guest-api-user-3");
+    }
+
+    /**
+     * NDJSON 응답의 줄마다 guest_id를 순서대로 추출
+     */
+    private List<String> streamGuestIds(String url) throws Exception {
+        MvcResult started = mockMvc.perform(get(url).accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        assertThat(body).endsWith("\n");
+        return body.lines()
+                .map(line -> JsonPath.<String>read(line, "$.guest_id"))
+                .toList();
+    }
+
+    private void saveGuest(String guestId, String appointmentId, String userId, LocalDateTime createdAt) {
+        guestRepository.save(Guest.builder()
+                .guest_id(guestId)
+                .appointment_id(appointmentId)
+                .user_id(userId)
+                .guest_status("coming")
+                .created_at(createdAt)
+                .updated_at(createdAt)
+                .build());
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.guest.controller;
+
+import com.example.guest.client.AppointmentServiceClient;
+import com.example.guest.client.UserServiceClient;
+import com.example.guest.dto.AppointmentResponse;
+import com.example.guest.dto.UserResponse;
+import com.example.guest.entity.Guest;
+import com.example.guest.repository.GuestRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 참가자 상태 일괄 변경: guest_ids / from_status 대상 지정, 없는 참가자 not_found, 호스트 확인, 요청 크기 제한
+ */
+@SpringBootTest(properties = "app.guest-batch.max-size=3")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class GuestControllerStatusBatchTest {
+
+    private static final String APPOINTMENT_ID = "appt-status-batch";
+    private static final String HOST_ID = "host-status-batch";
+    private static final String URL = "/appointments/" + APPOINTMENT_ID + "/guests/guest_status";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private GuestRepository guestRepository;
+
+    @MockitoBean
+    private AppointmentServiceClient appointmentServiceClient;
+
+    @MockitoBean
+    private UserServiceClient userServiceClient;
+
+    @BeforeEach
+    void setUp() {
+        guestRepository.deleteAllInBatch();
+        saveGuest("guest-sb-1", APPOINTMENT_ID, "coming");
+        saveGuest("guest-sb-2", APPOINTMENT_ID, "coming");
+        saveGuest("guest-sb-3", APPOINTMENT_ID, "late");
+        saveGuest("guest-sb-other", "appt-status-batch-other", "coming");
+        given(appointmentServiceClient.lookupAppointment(APPOINTMENT_ID)).willReturn(Mono.just(Optional.of(
+                AppointmentResponse.builder().appointmentId(APPOINTMENT_ID).hostId(HOST_ID).build())));
+        given(userServiceClient.lookupUser(anyString())).willAnswer(invocation -> Mono.just(Optional.of(
+                UserResponse.builder().userId(invocation.getArgument(0)).build())));
+    }
+
+    @Test
+    void guestIdsAreUpdatedAndUnknownOrOtherAppointmentIdsAreNotFound() throws Exception {
+        mockMvc.perform(patch(URL).header("X-User-ID", HOST_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"guest_ids\":[\"guest-sb-1\",\"guest-sb-missing\",\"guest-sb-other\"],\"guest_status\":\"arrived\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.updated").value(1))
+                .andExpect(jsonPath("$.data.data[0].guest_id").value("guest-sb-1"))
+                .andExpect(jsonPath("$.data.data[0].guest_status").value("arrived"))
+                .andExpect(jsonPath("$.data.not_found.length()").value(2))
+                .andExpect(jsonPath("$.data.not_found[0]").value("guest-sb-missing"))
+                .andExpect(jsonPath("$.data.not_found[1]").value("guest-sb-other"));
+
+        assertThat(databaseStatus("guest-sb-1")).isEqualTo("arrived");
+        assertThat(databaseStatus("guest-sb-2")).isEqualTo("coming");
+        assertThat(databaseStatus("guest-sb-other")).isEqualTo("coming");
+    }
+
+    @Test
+    void fromStatusUpdatesOnlyGuestsInThatStatus() throws Exception {
+        mockMvc.perform(patch(URL).header("X-User-ID", HOST_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"from_status\":\"coming\",\"guest_status\":\"absent\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.updated").value(2))
+                .andExpect(jsonPath("$.data.not_found.length()").value(0));
+
+        assertThat(databaseStatus("guest-sb-1")).isEqualTo("absent");
+        assertThat(databaseStatus("guest-sb-2")).isEqualTo("absent");
+        assertThat(databaseStatus("guest-sb-3")).isEqualTo("late");
+        assertThat(databaseStatus("guest-sb-other")).isEqualTo("coming");
+    }
+
+    @Test
+    void nonHostIsForbiddenAndNothingChanges() throws Exception {
+        mockMvc.perform(patch(URL).header("X-User-ID", "user-not-host")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"from_status\":\"coming\",\"guest_status\":\"absent\"}"))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.success").value(false));
+
+        assertThat(databaseStatus("guest-sb-1")).isEqualTo("coming");
+        assertThat(databaseStatus("guest-sb-2")).isEqualTo("coming");
+    }
+
+    @Test
+    void invalidRequestsAreRejectedBeforeDownstreamLookup() throws Exception {
+        // max-size(3) 초과
+        mockMvc.perform(patch(URL).header("X-User-ID", HOST_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"guest_ids\":[\"g1\",\"g2\",\"g3\",\"g4\"],\"guest_status\":\"arrived\"}"))
+                .andExpect(status().isBadRequest());
+        // guest_ids와 from_status 둘 다 지정
+        mockMvc.perform(patch(URL).header("X-User-ID", HOST_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"guest_ids\":[\"guest-sb-1\"],\"from_status\":\"coming\",\"guest_status\":\"arrived\"}"))
+                .andExpect(status().isBadRequest());
+        // guest_status 없음
+        mockMvc.perform(patch(URL).header("X-User-ID", HOST_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"guest_ids\":[\"guest-sb-1\"]}"))
+                .andExpect(status().isBadRequest());
+
+        verify(appointmentServiceClient, never()).lookupAppointment(anyString());
+        assertThat(databaseStatus("guest-sb-1")).isEqualTo("coming");
+    }
+
+    private void saveGuest(String guestId, String appointmentId, String guestStatus) {
+        LocalDateTime now = LocalDateTime.now();
+        guestRepository.save(Guest.builder()
+                .guest_id(guestId)
+                .appointment_id(appointmentId)
+                .user_id("user-" + guestId)
+                .guest_status(guestStatus)
+                .created_at(now)
+                .updated_at(now)
+                .build());
+    }
+
+    private String databaseStatus(String guestId) {
+        return guestRepository.findById(guestId).map(Guest::getGuest_status).orElseThrow();
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.guest.repository;
+
+import com.example.guest.entity.Guest;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=100"
+})
+class GuestBatchRepositoryTest {
+
+    private static final int GUESTS = 1000;
+
+    @Autowired
+    private GuestRepository guestRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void resetStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void insertAllSendsRowsInJdbcBatches() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Guest> guests = new ArrayList<>();
+        for (int i = 0; i < GUESTS; i++) {
+            guests.add(Guest.builder()
+                    .guest_id("guest-batch-" + i)
+                    .appointment_id("appt-batch")
+                    .user_id("user-" + i)
+                    .guest_status("coming")
+                    .created_at(now)
+                    .updated_at(now)
+                    .build());
+        }
+
+        guestRepository.insertAll(guests);
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(GUESTS);
+        // merge 방식이었다면 INSERT 1000회 + SELECT 1000회, batch면 100건당 PreparedStatement 1개
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(GUESTS / 100);
+        assertThat(guestRepository.findUserIdsByAppointmentIdAndUserIdIn("appt-batch", List.of("user-1", "user-999", "user-x")))
+                .containsExactlyInAnyOrder("user-1", "user-999");
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.guest.repository;
+
+import com.example.guest.entity.Guest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Flyway 마이그레이션으로 생성된 스키마에서 GuestRepository 조회 조건이 인덱스를 타는지 확인
+ * MySQL 호환 모드 H2의 EXPLAIN 결과로 검사 (full scan이면 tableScan으로 표시됨)
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@TestPropertySource(properties =
+        "spring.datasource.url=jdbc:h2:mem:guest-plan;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class GuestIndexQueryPlanTest {
+
+    private static final int APPOINTMENTS = 100;
+    private static final int USERS_PER_APPOINTMENT = 20;
+    private static final String[] STATUSES = {"coming", "late", "absent"};
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private GuestRepository guestRepository;
+
+    @BeforeEach
+    void seed() {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM guests", Integer.class);
+        if (count != null && count > 0) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>();
+        for (int a = 0; a < APPOINTMENTS; a++) {
+            for (int u = 0; u < USERS_PER_APPOINTMENT; u++) {
+                rows.add(new Object[] {
+                    "guest-" + a + "-" + u, "appt-" + a, "user-" + (a + u) % 500, STATUSES[u % STATUSES.length], now, now
+                });
+            }
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO guests (guest_id, appointment_id, user_id, guest_status, created_at, updated_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?)", rows);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    void findByAppointmentIdUsesAppointmentLeadingIndex() {
+        String plan = explain("SELECT * FROM guests WHERE appointment_id = 'appt-1'");
+
+        assertThat(plan).doesNotContain("tablescan");
+        assertThat(plan).containsAnyOf(Guest.UNIQUE_APPOINTMENT_USER, "idx_guests_appointment_status");
+    }
+
+    @Test
+    void findByAppointmentIdAndUserIdUsesUniqueIndex() {
+        String plan = explain("SELECT * FROM guests WHERE appointment_id = 'appt-1' AND user_id = 'user-1'");
+
+        assertThat(plan).contains(Guest.UNIQUE_APPOINTMENT_USER);
+    }
+
+    @Test
+    void findByAppointmentIdAndGuestStatusUsesAppointmentStatusIndex() {
+        String plan = explain("SELECT * FROM guests WHERE appointment_id = 'appt-1' AND guest_status = 'late'");
+
+        assertThat(plan).contains("idx_guests_appointment_status");
+    }
+
+    @Test
+    void findByUserIdUsesUserStatusIndex() {
+        String plan = explain("SELECT * FROM guests WHERE user_id = 'user-1'");
+
+        assertThat(plan).contains("idx_guests_user_status");
+    }
+
+    @Test
+    void findByUserIdAndGuestStatusUsesUserStatusIndex() {
+        String plan = explain("SELECT * FROM guests WHERE user_id = 'user-1' AND guest_status = 'coming'");
+
+        assertThat(plan).contains("idx_guests_user_status");
+    }
+
+    @Test
+    void duplicateParticipationIsRejectedByUniqueConstraint() {
+        LocalDateTime now = LocalDateTime.now();
+        guestRepository.saveAndFlush(Guest.builder()
+                .guest_id("guest-dup-1").appointment_id("appt-dup").user_id("user-dup")
+                .guest_status("coming").created_at(now).updated_at(now)
+                .build());
+
+        assertThatThrownBy(() -> guestRepository.saveAndFlush(Guest.builder()
+                .guest_id("guest-dup-2").appointment_id("appt-dup").user_id("user-dup")
+                .guest_status("coming").created_at(now).updated_at(now)
+                .build()))
+                .isInstanceOf(DataIntegrityViolationException.class)
+                .satisfies(e -> assertThat(((DataIntegrityViolationException) e).getMostSpecificCause().getMessage())
+                        .containsIgnoringCase(Guest.UNIQUE_APPOINTMENT_USER));
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class).toLowerCase();
+    }
+}
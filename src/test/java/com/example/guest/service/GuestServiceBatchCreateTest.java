@@ -0,0 +1,87 @@
+package com.example.guest.service;
+
+import com.example.guest.client.AppointmentServiceClient;
+import com.example.guest.client.UserServiceClient;
+import com.example.guest.dto.AppointmentResponse;
+import com.example.guest.dto.request.GuestBatchRequest;
+import com.example.guest.entity.Guest;
+import com.example.guest.repository.GuestRepository;
+import com.example.guest.service.id.GuestIdGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 일괄 등록 중 다른 요청이 같은 사용자를 먼저 등록한 경우 (중복 확인 이후, batch INSERT 이전)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class GuestServiceBatchCreateTest {
+
+    private static final String APPOINTMENT_ID = "appt-batch-race";
+    private static final AppointmentResponse APPOINTMENT =
+            AppointmentResponse.builder().appointmentId(APPOINTMENT_ID).hostId("host-batch-race").build();
+
+    @Autowired
+    private GuestService guestService;
+
+    @Autowired
+    private GuestRepository guestRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private GuestIdGenerator guestIdGenerator;
+
+    @MockitoBean
+    private AppointmentServiceClient appointmentServiceClient;
+
+    @MockitoBean
+    private UserServiceClient userServiceClient;
+
+    @BeforeEach
+    void setUp() {
+        guestRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void racingInsertOfSameUserFailsBatchAsConflict() {
+        // 중복 확인(IN 조회)은 끝났고 INSERT는 아직인 시점에, 다른 트랜잭션이 user-race-2를 먼저 등록
+        AtomicBoolean raced = new AtomicBoolean();
+        given(guestIdGenerator.nextId()).willAnswer(invocation -> {
+            if (raced.compareAndSet(false, true)) {
+                CompletableFuture.runAsync(() -> jdbcTemplate.update(
+                        "INSERT INTO guests (guest_id, appointment_id, user_id, guest_status, created_at, updated_at) "
+                                + "VALUES (?, ?, ?, 'coming', ?, ?)",
+                        "guest-racing", APPOINTMENT_ID, "user-race-2", LocalDateTime.now(), LocalDateTime.now())).join();
+            }
+            return UUID.randomUUID().toString();
+        });
+
+        assertThatThrownBy(() -> guestService.createGuests(APPOINTMENT_ID, APPOINTMENT,
+                new GuestBatchRequest(List.of("user-race-1", "user-race-2"), null),
+                Set.of("user-race-1", "user-race-2")))
+                .isInstanceOf(DuplicateParticipationException.class);
+
+        // 일괄 등록은 전체 롤백되고 먼저 등록된 참가자만 남음
+        assertThat(guestRepository.findAll())
+                .extracting(Guest::getUser_id)
+                .containsExactly("user-race-2");
+    }
+}
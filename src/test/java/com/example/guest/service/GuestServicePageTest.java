@@ -0,0 +1,137 @@
+package com.example.guest.service;
+
+import com.example.guest.client.AppointmentServiceClient;
+import com.example.guest.client.UserServiceClient;
+import com.example.guest.dto.response.GuestPageResponse;
+import com.example.guest.dto.response.GuestResponse;
+import com.example.guest.entity.Guest;
+import com.example.guest.repository.GuestRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * keyset 페이지네이션: 커서 왕복, created_at이 같은 행은 guest_id 순으로 이어서 조회, 잘못된 커서 거부
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class GuestServicePageTest {
+
+    private static final String APPOINTMENT_ID = "appt-page";
+    private static final String USER_ID = "user-page";
+    private static final LocalDateTime EARLY = LocalDateTime.of(2024, 1, 15, 10, 0, 0);
+    private static final LocalDateTime TIED = LocalDateTime.of(2024, 1, 15, 10, 30, 0, 123_456_000);
+    private static final LocalDateTime LATE = LocalDateTime.of(2024, 1, 15, 11, 0, 0);
+
+    @Autowired
+    private GuestService guestService;
+
+    @Autowired
+    private GuestRepository guestRepository;
+
+    @MockitoBean
+    private AppointmentServiceClient appointmentServiceClient;
+
+    @MockitoBean
+    private UserServiceClient userServiceClient;
+
+    @BeforeEach
+    void setUp() {
+        guestRepository.deleteAllInBatch();
+        // 저장 순서와 guest_id 순서를 다르게 해서 created_at이 같은 행의 정렬을 확인
+        saveGuest("guest-page-e", APPOINTMENT_ID, "user-page-e", LATE);
+        saveGuest("guest-page-c", APPOINTMENT_ID, "user-page-c", TIED);
+        saveGuest("guest-page-a", APPOINTMENT_ID, "user-page-a", TIED);
+        saveGuest("guest-page-d", APPOINTMENT_ID, "user-page-d", TIED);
+        saveGuest("guest-page-b", APPOINTMENT_ID, "user-page-b", EARLY);
+        saveGuest("guest-page-other", "appt-page-other", "user-page-other", TIED);
+
+        saveGuest("guest-user-page-3", "appt-user-page-1", USER_ID, TIED);
+        saveGuest("guest-user-page-1", "appt-user-page-2", USER_ID, TIED);
+        saveGuest("guest-user-page-2", "appt-user-page-3", USER_ID, TIED);
+        saveGuest("guest-user-page-0", "appt-user-page-4", USER_ID, EARLY);
+    }
+
+    @Test
+    void cursorRoundTripsCreatedAtAndGuestId() {
+        GuestCursor cursor = new GuestCursor(TIED, "guest|with-separator");
+
+        assertThat(GuestCursor.decode(cursor.encode())).isEqualTo(cursor);
+        assertThat(cursor.encode()).doesNotContain("=", "+", "/");
+    }
+
+    @Test
+    void appointmentPagesBreakCreatedAtTiesByGuestId() {
+        List<String> guestIds = readAllPages(cursor -> guestService.getGuestPage(APPOINTMENT_ID, cursor, 2));
+
+        // created_at이 같은 c, a, d는 guest_id 순으로, 페이지 경계(2건)에서 빠지거나 겹치지 않음
+        assertThat(guestIds).containsExactly("guest-page-b", "guest-page-a", "guest-page-c", "guest-page-d", "guest-page-e");
+    }
+
+    @Test
+    void userPagesBreakCreatedAtTiesByGuestId() {
+        List<String> guestIds = readAllPages(cursor -> guestService.getGuestPageByUserId(USER_ID, cursor, 1));
+
+        assertThat(guestIds).containsExactly("guest-user-page-0", "guest-user-page-1", "guest-user-page-2", "guest-user-page-3");
+    }
+
+    @Test
+    void lastPageHasNoCursor() {
+        GuestPageResponse page = guestService.getGuestPage(APPOINTMENT_ID, null, 5);
+
+        assertThat(page.getData()).hasSize(5);
+        assertThat(page.isHas_next()).isFalse();
+        assertThat(page.getNext_cursor()).isNull();
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        String noSeparator = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("2024-01-15T10:30".getBytes(StandardCharsets.UTF_8));
+        String badTimestamp = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("yesterday|guest-page-a".getBytes(StandardCharsets.UTF_8));
+
+        for (String cursor : List.of("not base64!", noSeparator, badTimestamp)) {
+            assertThatThrownBy(() -> guestService.getGuestPage(APPOINTMENT_ID, cursor, 2))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> guestService.getGuestPageByUserId(USER_ID, cursor, 2))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    private static List<String> readAllPages(Function<String, GuestPageResponse> pageLoader) {
+        List<String> guestIds = new ArrayList<>();
+        String cursor = null;
+        do {
+            GuestPageResponse page = pageLoader.apply(cursor);
+            page.getData().stream().map(GuestResponse::getGuest_id).forEach(guestIds::add);
+            assertThat(page.isHas_next()).isEqualTo(page.getNext_cursor() != null);
+            cursor = page.getNext_cursor();
+        } while (cursor != null);
+        return guestIds;
+    }
+
+    private void saveGuest(String guestId, String appointmentId, String userId, LocalDateTime createdAt) {
+        guestRepository.save(Guest.builder()
+                .guest_id(guestId)
+                .appointment_id(appointmentId)
+                .user_id(userId)
+                .guest_status("coming")
+                .created_at(createdAt)
+                .updated_at(createdAt)
+                .build());
+    }
+}
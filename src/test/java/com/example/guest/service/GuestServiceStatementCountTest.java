@@ -0,0 +1,250 @@
+package com.example.guest.service;
+
+import com.example.guest.client.AppointmentServiceClient;
+import com.example.guest.client.UserServiceClient;
+import com.example.guest.dto.AppointmentResponse;
+import com.example.guest.dto.request.GuestRequest;
+import com.example.guest.dto.request.GuestStatusBatchRequest;
+import com.example.guest.dto.response.GuestResponse;
+import com.example.guest.dto.response.GuestStatusBatchResponse;
+import com.example.guest.entity.Guest;
+import com.example.guest.repository.GuestRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 쓰기 경로별 실행되는 SQL 문 수
+ * DataSource를 감싸 커넥션의 prepareStatement/createStatement 호출을 셈
+ * (JPA 쿼리뿐 아니라 커밋 직전 JdbcTemplate으로 실행되는 outbox 기록, 상태별 요약 증감까지 포함)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class GuestServiceStatementCountTest {
+
+    private static final String APPOINTMENT_ID = "appt-stmt";
+    private static final String HOST_ID = "host-stmt";
+    private static final AppointmentResponse APPOINTMENT =
+            AppointmentResponse.builder().appointmentId(APPOINTMENT_ID).hostId(HOST_ID).build();
+
+    @Autowired
+    private GuestService guestService;
+
+    @Autowired
+    private GuestRepository guestRepository;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @MockitoBean
+    private AppointmentServiceClient appointmentServiceClient;
+
+    @MockitoBean
+    private UserServiceClient userServiceClient;
+
+    @BeforeEach
+    void setUp() {
+        guestRepository.deleteAllInBatch();
+        LocalDateTime now = LocalDateTime.now();
+        guestRepository.save(Guest.builder()
+                .guest_id("guest-stmt-1")
+                .appointment_id(APPOINTMENT_ID)
+                .user_id("user-stmt-1")
+                .guest_status("coming")
+                .created_at(now)
+                .updated_at(now)
+                .build());
+        given(appointmentServiceClient.getAppointmentById(APPOINTMENT_ID))
+                .willReturn(APPOINTMENT);
+
+        statementCounter.reset();
+    }
+
+    @Test
+    void updateGuestStatusIssuesLockingReadUpdateAndCommitTimeWrites() {
+        GuestResponse response = guestService.updateGuestStatus(
+                APPOINTMENT_ID, "guest-stmt-1", new GuestRequest(null, "late"), HOST_ID);
+
+        // 변경 전 상태 잠금 조회 + UPDATE + 커밋 직전 outbox batch INSERT + 상태별 요약 batch upsert
+        assertThat(statementCounter.count()).isEqualTo(4);
+        assertThat(response.getGuest_status()).isEqualTo("late");
+        assertThat(response.getUser_id()).isEqualTo("user-stmt-1");
+        assertThat(response.getCreated_at()).isNotNull();
+        assertThat(guestRepository.findById("guest-stmt-1")).get()
+                .extracting(Guest::getGuest_status).isEqualTo("late");
+    }
+
+    @Test
+    void updateGuestStatusOfOtherAppointmentIsRejectedInSingleStatement() {
+        given(appointmentServiceClient.getAppointmentById("appt-other"))
+                .willReturn(AppointmentResponse.builder().appointmentId("appt-other").hostId(HOST_ID).build());
+
+        assertThatThrownBy(() -> guestService.updateGuestStatus(
+                "appt-other", "guest-stmt-1", new GuestRequest(null, "late"), HOST_ID))
+                .isInstanceOf(RuntimeException.class);
+
+        assertThat(statementCounter.count()).isEqualTo(1);
+        assertThat(guestRepository.findById("guest-stmt-1")).get()
+                .extracting(Guest::getGuest_status).isEqualTo("coming");
+    }
+
+    @Test
+    void deleteGuestIssuesLockingReadDeleteAndCommitTimeWrites() {
+        assertThat(guestService.deleteGuest(APPOINTMENT_ID, "guest-stmt-1")).isTrue();
+
+        // 삭제 전 상태 잠금 조회 + DELETE + 커밋 직전 outbox batch INSERT + 상태별 요약 batch upsert
+        assertThat(statementCounter.count()).isEqualTo(4);
+        assertThat(guestRepository.existsById("guest-stmt-1")).isFalse();
+    }
+
+    @Test
+    void deleteGuestOfOtherAppointmentDeletesNothing() {
+        assertThat(guestService.deleteGuest("appt-other", "guest-stmt-1")).isFalse();
+
+        assertThat(statementCounter.count()).isEqualTo(1);
+        assertThat(guestRepository.existsById("guest-stmt-1")).isTrue();
+    }
+
+    @Test
+    void updateGuestStatusesByIdsIssuesSingleSetBasedUpdate() {
+        saveGuest("guest-stmt-2", APPOINTMENT_ID, "coming");
+        saveGuest("guest-stmt-3", APPOINTMENT_ID, "late");
+        saveGuest("guest-stmt-other", "appt-other", "coming");
+        statementCounter.reset();
+
+        GuestStatusBatchResponse response = guestService.updateGuestStatuses(APPOINTMENT_ID, APPOINTMENT,
+                new GuestStatusBatchRequest(List.of("guest-stmt-1", "guest-stmt-2", "guest-stmt-3", "guest-stmt-other"),
+                        null, "arrived"), HOST_ID);
+
+        // 대상 행 잠금 조회 + UPDATE ... IN 1회 + 커밋 직전 outbox batch INSERT + 상태별 요약 batch upsert (대상 수와 무관)
+        assertThat(statementCounter.count()).isEqualTo(4);
+        assertThat(statementCounter.count("update guests")).isEqualTo(1);
+        assertThat(response.getUpdated()).isEqualTo(3);
+        assertThat(response.getNot_found()).containsExactly("guest-stmt-other");
+        assertThat(guestRepository.findById("guest-stmt-other")).get()
+                .extracting(Guest::getGuest_status).isEqualTo("coming");
+    }
+
+    @Test
+    void updateGuestStatusesByFromStatusIssuesSingleSetBasedUpdate() {
+        saveGuest("guest-stmt-2", APPOINTMENT_ID, "coming");
+        saveGuest("guest-stmt-3", APPOINTMENT_ID, "late");
+        statementCounter.reset();
+
+        GuestStatusBatchResponse response = guestService.updateGuestStatuses(APPOINTMENT_ID, APPOINTMENT,
+                new GuestStatusBatchRequest(null, "coming", "absent"), HOST_ID);
+
+        assertThat(statementCounter.count()).isEqualTo(4);
+        assertThat(statementCounter.count("update guests")).isEqualTo(1);
+        assertThat(response.getData()).extracting(GuestResponse::getGuest_id)
+                .containsExactlyInAnyOrder("guest-stmt-1", "guest-stmt-2");
+        assertThat(guestRepository.findById("guest-stmt-3")).get()
+                .extracting(Guest::getGuest_status).isEqualTo("late");
+    }
+
+    private void saveGuest(String guestId, String appointmentId, String guestStatus) {
+        LocalDateTime now = LocalDateTime.now();
+        guestRepository.save(Guest.builder()
+                .guest_id(guestId)
+                .appointment_id(appointmentId)
+                .user_id("user-" + guestId)
+                .guest_status(guestStatus)
+                .created_at(now)
+                .updated_at(now)
+                .build());
+    }
+
+    static class StatementCounter {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        private final List<String> statements = new CopyOnWriteArrayList<>();
+
+        int count() {
+            return count.get();
+        }
+
+        /**
+         * 지정한 문장으로 시작하는 prepareStatement 수 (대소문자 무시)
+         */
+        long count(String prefix) {
+            return statements.stream().filter(sql -> sql.regionMatches(true, 0, prefix, 0, prefix.length())).count();
+        }
+
+        void reset() {
+            count.set(0);
+            statements.clear();
+        }
+
+        Connection wrap(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class},
+                    (proxy, method, args) -> {
+                        String name = method.getName();
+                        if (name.equals("prepareStatement") || name.equals("createStatement") || name.equals("prepareCall")) {
+                            count.incrementAndGet();
+                            if (args != null && args.length > 0 && args[0] instanceof String sql) {
+                                statements.add(sql.strip().replaceAll("\\s+", " "));
+                            }
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    });
+        }
+    }
+
+    @TestConfiguration
+    static class StatementCounterConfig {
+
+        @Bean
+        static StatementCounter statementCounter() {
+            return new StatementCounter();
+        }
+
+        @Bean
+        static BeanPostProcessor countingDataSourcePostProcessor(StatementCounter statementCounter) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof DataSource dataSource) || bean instanceof DelegatingDataSource) {
+                        return bean;
+                    }
+                    return new DelegatingDataSource(dataSource) {
+                        @Override
+                        public Connection getConnection() throws SQLException {
+                            return statementCounter.wrap(super.getConnection());
+                        }
+
+                        @Override
+                        public Connection getConnection(String username, String password) throws SQLException {
+                            return statementCounter.wrap(super.getConnection(username, password));
+                        }
+                    };
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.guest.service.event;
+
+import com.example.guest.dto.response.GuestEventResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.Disposable;
+import reactor.core.publisher.BaseSubscriber;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GuestEventHubTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private GuestEventHub hub;
+
+    @AfterEach
+    void shutdown() {
+        if (hub != null) {
+            hub.shutdown();
+        }
+    }
+
+    @Test
+    void subscriberReceivesOnlyItsAppointmentEventsAndChannelIsRemovedOnCancel() {
+        hub = new GuestEventHub(Duration.ofHours(1), 16, registry);
+        List<ServerSentEvent<GuestEventResponse>> received = new CopyOnWriteArrayList<>();
+        Disposable subscription = hub.subscribe("appo-1").subscribe(received::add);
+
+        hub.onGuestChanged(GuestChangedEvent.created("appo-1", "guest-1", "user-1", "coming", LocalDateTime.now()));
+        hub.onGuestChanged(GuestChangedEvent.created("appo-2", "guest-2", "user-2", "coming", LocalDateTime.now()));
+        hub.onGuestChanged(GuestChangedEvent.statusChanged("appo-1", "guest-1", "user-1", "late", "coming", LocalDateTime.now()));
+
+        assertThat(received).hasSize(3);
+        assertThat(received.get(0).comment()).isEqualTo("connected");
+        assertThat(received.get(1).event()).isEqualTo("guest.created");
+        assertThat(received.get(2).event()).isEqualTo("guest.status_changed");
+        assertThat(received.get(2).data().getPrevious_status()).isEqualTo("coming");
+        assertThat(hub.subscriberCount()).isEqualTo(1);
+        assertThat(hub.channelCount()).isEqualTo(1);
+
+        subscription.dispose();
+
+        assertThat(hub.subscriberCount()).isZero();
+        assertThat(hub.channelCount()).isZero();
+        assertThat(registry.get("guest.events.published").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void slowSubscriberIsEvictedWithoutAffectingOthers() {
+        hub = new GuestEventHub(Duration.ofHours(1), 4, registry);
+        AtomicBoolean slowCompleted = new AtomicBoolean();
+        hub.subscribe("appo-1").subscribe(new BaseSubscriber<>() {
+            @Override
+            protected void hookOnSubscribe(Subscription subscription) {
+                request(1);
+            }
+
+            @Override
+            protected void hookOnComplete() {
+                slowCompleted.set(true);
+            }
+        });
+        List<ServerSentEvent<GuestEventResponse>> fast = new CopyOnWriteArrayList<>();
+        hub.subscribe("appo-1").subscribe(fast::add);
+
+        for (int i = 0; i < 10; i++) {
+            hub.onGuestChanged(GuestChangedEvent.deleted("appo-1", "guest-" + i, "coming", LocalDateTime.now()));
+        }
+
+        assertThat(slowCompleted).isTrue();
+        assertThat(registry.get("guest.events.evicted").counter().count()).isEqualTo(1);
+        assertThat(fast).hasSize(11);
+        assertThat(hub.subscriberCount()).isEqualTo(1);
+        assertThat(hub.channelCount()).isEqualTo(1);
+    }
+
+    @Test
+    void idleSubscriberReceivesHeartbeat() {
+        hub = new GuestEventHub(Duration.ofMillis(50), 16, registry);
+
+        ServerSentEvent<GuestEventResponse> heartbeat = hub.subscribe("appo-1")
+                .filter(event -> "heartbeat".equals(event.comment()))
+                .blockFirst(Duration.ofSeconds(5));
+
+        assertThat(heartbeat).isNotNull();
+        assertThat(hub.channelCount()).isZero();
+    }
+}
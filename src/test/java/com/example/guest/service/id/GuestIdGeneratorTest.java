@@ -0,0 +1,115 @@
+package com.example.guest.service.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GuestIdGeneratorTest {
+
+    private static final int THREADS = 16;
+    private static final int IDS_PER_THREAD = 20_000;
+
+    @Test
+    void ulidIdsAreUniqueAndOrderedUnderConcurrency() throws Exception {
+        assertUniqueAndOrderedPerThread(new UlidGuestIdGenerator());
+    }
+
+    @Test
+    void snowflakeIdsAreUniqueAndOrderedUnderConcurrency() throws Exception {
+        assertUniqueAndOrderedPerThread(new SnowflakeGuestIdGenerator(7));
+    }
+
+    @Test
+    void snowflakeNodesDoNotCollideWithinSameMillisecond() {
+        AtomicLong frozenClock = new AtomicLong(System.currentTimeMillis());
+        SnowflakeGuestIdGenerator node1 = new SnowflakeGuestIdGenerator(1, frozenClock::get);
+        SnowflakeGuestIdGenerator node2 = new SnowflakeGuestIdGenerator(2, frozenClock::get);
+
+        Set<String> ids = new HashSet<>();
+        for (int i = 0; i < 4096; i++) {
+            ids.add(node1.nextId());
+            ids.add(node2.nextId());
+        }
+
+        assertThat(ids).hasSize(2 * 4096);
+    }
+
+    @Test
+    void ulidStaysMonotonicWhenClockIsFrozenOrMovesBackwards() {
+        AtomicLong clock = new AtomicLong(1_700_000_000_000L);
+        UlidGuestIdGenerator generator = new UlidGuestIdGenerator(clock::get);
+
+        String previous = generator.nextId();
+        for (int i = 0; i < 10_000; i++) {
+            if (i == 5_000) {
+                clock.addAndGet(-1_000);
+            }
+            String next = generator.nextId();
+            assertThat(next).isGreaterThan(previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    void idsHaveFixedLengthSoStringOrderFollowsTime() {
+        AtomicLong clock = new AtomicLong(1_700_000_000_000L);
+        UlidGuestIdGenerator generator = new UlidGuestIdGenerator(clock::get);
+
+        String earlier = generator.nextId();
+        clock.addAndGet(1);
+        String later = generator.nextId();
+
+        assertThat(earlier).startsWith(GuestIdGenerator.PREFIX).hasSize(later.length());
+        assertThat(later).isGreaterThan(earlier);
+    }
+
+    @Test
+    void snowflakeRejectsOutOfRangeNodeId() {
+        assertThatThrownBy(() -> new SnowflakeGuestIdGenerator(SnowflakeGuestIdGenerator.MAX_NODE_ID + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void assertUniqueAndOrderedPerThread(GuestIdGenerator generator) throws Exception {
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    String previous = "";
+                    boolean ordered = true;
+                    for (int i = 0; i < IDS_PER_THREAD; i++) {
+                        String id = generator.nextId();
+                        ordered &= id.compareTo(previous) > 0;
+                        ids.add(id);
+                        previous = id;
+                    }
+                    return ordered;
+                }));
+            }
+            start.countDown();
+            for (Future<Boolean> result : results) {
+                assertThat(result.get(30, TimeUnit.SECONDS)).isTrue();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(ids).hasSize(THREADS * IDS_PER_THREAD);
+    }
+}
@@ -0,0 +1,234 @@
+package com.example.guest.service.outbox;
+
+import com.example.guest.client.AppointmentServiceClient;
+import com.example.guest.client.UserServiceClient;
+import com.example.guest.dto.AppointmentResponse;
+import com.example.guest.dto.request.GuestRequest;
+import com.example.guest.dto.response.GuestResponse;
+import com.example.guest.repository.GuestRepository;
+import com.example.guest.service.GuestService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 참가자 변경과 같은 트랜잭션의 outbox 기록, relay의 순서 보장/재전달
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class GuestOutboxRelayTest {
+
+    private static final String APPOINTMENT_ID = "appt-outbox";
+    private static final String HOST_ID = "host-outbox";
+
+    @Autowired
+    private GuestService guestService;
+
+    @Autowired
+    private GuestOutboxRelay relay;
+
+    @Autowired
+    private CapturingSink sink;
+
+    @Autowired
+    private GuestRepository guestRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private AppointmentServiceClient appointmentServiceClient;
+
+    @MockitoBean
+    private UserServiceClient userServiceClient;
+
+    @BeforeEach
+    void setUp() {
+        guestRepository.deleteAllInBatch();
+        jdbcTemplate.update("DELETE FROM guest_outbox");
+        jdbcTemplate.update("UPDATE guest_outbox_lease SET owner = NULL, lease_until = ?",
+                Timestamp.valueOf(LocalDateTime.of(1970, 1, 1, 0, 0)));
+        sink.delivered.clear();
+        sink.failing = false;
+        sink.blocking = null;
+        given(appointmentServiceClient.getAppointmentById(APPOINTMENT_ID))
+                .willReturn(AppointmentResponse.builder().appointmentId(APPOINTMENT_ID).hostId(HOST_ID).build());
+    }
+
+    @Test
+    void guestChangesAreRelayedInOrderAndRemovedFromOutbox() {
+        GuestResponse created = createGuest("user-outbox-1");
+        guestService.updateGuestStatus(APPOINTMENT_ID, created.getGuest_id(), new GuestRequest(null, "late"), HOST_ID);
+        guestService.deleteGuest(APPOINTMENT_ID, created.getGuest_id());
+        assertThat(pendingCount()).isEqualTo(3);
+
+        relay.relay();
+
+        assertThat(sink.delivered).extracting(GuestOutboxMessage::eventType)
+                .containsExactly("guest.created", "guest.status_changed", "guest.deleted");
+        assertThat(sink.delivered).extracting(GuestOutboxMessage::id).isSorted();
+        assertThat(sink.delivered.get(1).payload()).contains("\"guest_status\":\"late\"");
+        assertThat(pendingCount()).isZero();
+    }
+
+    @Test
+    void failedBatchStaysInOutboxAndIsRedelivered() {
+        createGuest("user-outbox-2");
+        sink.failing = true;
+
+        relay.relay();
+
+        assertThat(sink.delivered).isEmpty();
+        assertThat(pendingCount()).isEqualTo(1);
+
+        sink.failing = false;
+        relay.relay();
+
+        assertThat(sink.delivered).hasSize(1);
+        assertThat(pendingCount()).isZero();
+    }
+
+    @Test
+    void blockingSinkDoesNotBlockGuestWrites() throws Exception {
+        GuestResponse first = createGuest("user-outbox-4");
+        long inFlightId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM guest_outbox", Long.class);
+        sink.blocking = new CountDownLatch(1);
+
+        CompletableFuture<Void> relaying = CompletableFuture.runAsync(relay::relay);
+        assertThat(sink.entered.await(5, TimeUnit.SECONDS)).isTrue();
+        try {
+            // sink가 응답하지 않는 동안에도 참가자 변경(outbox INSERT 포함)이 바로 끝나고, 전달 중인 행도 잠겨 있지 않음
+            CompletableFuture.supplyAsync(() -> createGuest("user-outbox-5")).get(2, TimeUnit.SECONDS);
+            CompletableFuture.runAsync(() -> guestService.updateGuestStatus(
+                    APPOINTMENT_ID, first.getGuest_id(), new GuestRequest(null, "late"), HOST_ID)).get(2, TimeUnit.SECONDS);
+            CompletableFuture.supplyAsync(() -> jdbcTemplate.update(
+                    "UPDATE guest_outbox SET payload = payload WHERE id = ?", inFlightId)).get(2, TimeUnit.SECONDS);
+            assertThat(sink.publishedInTransaction).isFalse();
+        } finally {
+            sink.blocking.countDown();
+        }
+        relaying.get(5, TimeUnit.SECONDS);
+
+        // 전달한 배치만 삭제되고, 전달 중에 기록된 행은 다음 주기에 순서대로 전달
+        assertThat(sink.delivered).extracting(GuestOutboxMessage::id).containsExactly(inFlightId);
+        assertThat(pendingCount()).isEqualTo(2);
+
+        sink.blocking = null;
+        relay.relay();
+
+        assertThat(sink.delivered).extracting(GuestOutboxMessage::eventType)
+                .containsExactly("guest.created", "guest.created", "guest.status_changed");
+        assertThat(sink.delivered).extracting(GuestOutboxMessage::id).isSorted();
+        assertThat(pendingCount()).isZero();
+    }
+
+    @Test
+    void relayWaitsWhileAnotherReplicaHoldsTheLease() {
+        createGuest("user-outbox-6");
+        jdbcTemplate.update("UPDATE guest_outbox_lease SET owner = 'other-replica', lease_until = ?",
+                Timestamp.valueOf(LocalDateTime.now().plusMinutes(1)));
+
+        relay.relay();
+
+        assertThat(sink.delivered).isEmpty();
+        assertThat(pendingCount()).isEqualTo(1);
+
+        // lease가 만료되면 이어서 전달
+        jdbcTemplate.update("UPDATE guest_outbox_lease SET lease_until = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusSeconds(1)));
+        relay.relay();
+
+        assertThat(sink.delivered).hasSize(1);
+        assertThat(pendingCount()).isZero();
+    }
+
+    @Test
+    void rolledBackChangeLeavesNoOutboxRow() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        assertThatThrownBy(() -> transaction.executeWithoutResult(status -> {
+            createGuest("user-outbox-3");
+            throw new IllegalStateException("rollback");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(pendingCount()).isZero();
+        assertThat(guestRepository.count()).isZero();
+    }
+
+    private GuestResponse createGuest(String userId) {
+        return guestService.createGuest(APPOINTMENT_ID,
+                AppointmentResponse.builder().appointmentId(APPOINTMENT_ID).hostId(HOST_ID).build(),
+                new GuestRequest(userId, "coming"));
+    }
+
+    private int pendingCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM guest_outbox", Integer.class);
+    }
+
+    static class CapturingSink implements GuestOutboxSink {
+
+        final List<GuestOutboxMessage> delivered = new CopyOnWriteArrayList<>();
+
+        volatile boolean failing;
+
+        /** null이 아니면 풀릴 때까지 전달을 멈춤 (느린 webhook 흉내) */
+        volatile CountDownLatch blocking;
+
+        final CountDownLatch entered = new CountDownLatch(1);
+
+        volatile boolean publishedInTransaction;
+
+        @Override
+        public void publish(List<GuestOutboxMessage> messages) {
+            if (failing) {
+                throw new IllegalStateException("sink unavailable");
+            }
+            CountDownLatch latch = blocking;
+            if (latch != null) {
+                publishedInTransaction = TransactionSynchronizationManager.isActualTransactionActive();
+                entered.countDown();
+                try {
+                    latch.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            delivered.addAll(messages);
+        }
+    }
+
+    @TestConfiguration
+    static class SinkConfig {
+
+        @Bean
+        @Primary
+        CapturingSink capturingSink() {
+            return new CapturingSink();
+        }
+    }
+}
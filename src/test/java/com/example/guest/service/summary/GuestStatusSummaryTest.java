@@ -0,0 +1,94 @@
+package com.example.guest.service.summary;
+
+import com.example.guest.client.AppointmentServiceClient;
+import com.example.guest.client.UserServiceClient;
+import com.example.guest.dto.AppointmentResponse;
+import com.example.guest.dto.request.GuestRequest;
+import com.example.guest.dto.response.GuestResponse;
+import com.example.guest.dto.response.GuestSummaryResponse;
+import com.example.guest.repository.GuestRepository;
+import com.example.guest.service.GuestService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 상태별 요약: 등록/상태 변경/삭제 트랜잭션에서 증감, reconcile로 어긋난 값 보정
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class GuestStatusSummaryTest {
+
+    private static final String APPOINTMENT_ID = "appt-summary";
+    private static final String HOST_ID = "host-summary";
+
+    @Autowired
+    private GuestService guestService;
+
+    @Autowired
+    private GuestStatusSummaryReconciler reconciler;
+
+    @Autowired
+    private GuestRepository guestRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private AppointmentServiceClient appointmentServiceClient;
+
+    @MockitoBean
+    private UserServiceClient userServiceClient;
+
+    @BeforeEach
+    void setUp() {
+        guestRepository.deleteAllInBatch();
+        jdbcTemplate.update("DELETE FROM guest_status_counts");
+        given(appointmentServiceClient.getAppointmentById(APPOINTMENT_ID))
+                .willReturn(AppointmentResponse.builder().appointmentId(APPOINTMENT_ID).hostId(HOST_ID).build());
+    }
+
+    @Test
+    void countsFollowCreateStatusChangeAndDelete() {
+        GuestResponse first = createGuest("user-summary-1");
+        GuestResponse second = createGuest("user-summary-2");
+        createGuest("user-summary-3");
+
+        guestService.updateGuestStatus(APPOINTMENT_ID, first.getGuest_id(), new GuestRequest(null, "late"), HOST_ID);
+        guestService.deleteGuest(APPOINTMENT_ID, second.getGuest_id());
+
+        GuestSummaryResponse summary = guestService.getGuestSummary(APPOINTMENT_ID);
+        assertThat(summary.getTotal()).isEqualTo(2);
+        assertThat(summary.getCounts()).containsOnly(entry("coming", 1L), entry("late", 1L));
+        assertThat(reconciler.reconcile()).isZero();
+    }
+
+    @Test
+    void reconcileCorrectsDriftedCounts() {
+        createGuest("user-summary-4");
+        createGuest("user-summary-5");
+        jdbcTemplate.update("UPDATE guest_status_counts SET guest_count = 7 WHERE appointment_id = ?", APPOINTMENT_ID);
+        jdbcTemplate.update("INSERT INTO guest_status_counts (appointment_id, guest_status, guest_count) VALUES (?, ?, ?)",
+                "appt-summary-orphan", "coming", 3);
+
+        assertThat(reconciler.reconcile()).isEqualTo(2);
+
+        assertThat(guestService.getGuestSummary(APPOINTMENT_ID).getCounts()).containsOnly(entry("coming", 2L));
+        assertThat(guestService.getGuestSummary("appt-summary-orphan").getTotal()).isZero();
+        assertThat(reconciler.reconcile()).isZero();
+    }
+
+    private GuestResponse createGuest(String userId) {
+        return guestService.createGuest(APPOINTMENT_ID,
+                AppointmentResponse.builder().appointmentId(APPOINTMENT_ID).hostId(HOST_ID).build(),
+                new GuestRequest(userId, "coming"));
+    }
+}
@@ -0,0 +1,201 @@
+package com.example.guest.service.writebehind;
+
+import com.example.guest.client.AppointmentServiceClient;
+import com.example.guest.client.UserServiceClient;
+import com.example.guest.dto.AppointmentResponse;
+import com.example.guest.dto.request.GuestRequest;
+import com.example.guest.entity.Guest;
+import com.example.guest.repository.GuestRepository;
+import com.example.guest.service.GuestService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 상태 write-behind: 조회 시 버퍼 값 반영, 참가자별 마지막 값만 batch UPDATE, 실제로 바꾼 행만 이벤트 발행, 재시작 시 로그 복구,
+ * 동시 접수의 group commit
+ */
+@SpringBootTest(properties = {
+        "app.status-write-behind.enabled=true",
+        "app.status-write-behind.flush-interval=1h"
+})
+@ActiveProfiles("test")
+class GuestStatusWriteBehindTest {
+
+    private static final String APPOINTMENT_ID = "appt-wb";
+    private static final String HOST_ID = "host-wb";
+    private static final String GUEST_ID = "guest-wb-1";
+
+    @TempDir
+    static Path logDir;
+
+    @DynamicPropertySource
+    static void logDir(DynamicPropertyRegistry registry) {
+        registry.add("app.status-write-behind.log-dir", () -> logDir.resolve("context").toString());
+    }
+
+    @Autowired
+    private GuestService guestService;
+
+    @Autowired
+    private GuestStatusWriteBehind writeBehind;
+
+    @Autowired
+    private GuestRepository guestRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private AppointmentServiceClient appointmentServiceClient;
+
+    @MockitoBean
+    private UserServiceClient userServiceClient;
+
+    @BeforeEach
+    void setUp() {
+        writeBehind.flush();
+        guestRepository.deleteAllInBatch();
+        jdbcTemplate.update("DELETE FROM guest_outbox");
+        LocalDateTime created = LocalDateTime.now().minusMinutes(1);
+        guestRepository.save(Guest.builder()
+                .guest_id(GUEST_ID)
+                .appointment_id(APPOINTMENT_ID)
+                .user_id("user-wb-1")
+                .guest_status("coming")
+                .created_at(created)
+                .updated_at(created)
+                .build());
+        given(appointmentServiceClient.getAppointmentById(APPOINTMENT_ID))
+                .willReturn(AppointmentResponse.builder().appointmentId(APPOINTMENT_ID).hostId(HOST_ID).build());
+    }
+
+    @Test
+    void bufferedStatusIsReadBeforeFlushAndOnlyLastValueIsWritten() {
+        guestService.updateGuestStatus(APPOINTMENT_ID, GUEST_ID, new GuestRequest(null, "late"), HOST_ID);
+        guestService.updateGuestStatus(APPOINTMENT_ID, GUEST_ID, new GuestRequest(null, "arrived"), HOST_ID);
+
+        assertThat(databaseStatus()).isEqualTo("coming");
+        assertThat(writeBehind.hasPendingForUser("user-wb-1")).isTrue();
+        assertThat(writeBehind.hasPendingForUser("user-wb-other")).isFalse();
+        assertThat(guestService.getGuestStatus(APPOINTMENT_ID, GUEST_ID)).isEqualTo("arrived");
+        assertThat(guestService.getGuests(APPOINTMENT_ID)).extracting("guest_status").containsExactly("arrived");
+        assertThat(guestService.getGuestsByUserIdAndStatus("user-wb-1", "arrived")).hasSize(1);
+        assertThat(guestService.getGuestsByUserIdAndStatus("user-wb-1", "coming")).isEmpty();
+
+        writeBehind.flush();
+
+        assertThat(databaseStatus()).isEqualTo("arrived");
+        assertThat(writeBehind.hasPending()).isFalse();
+        assertThat(writeBehind.hasPendingForUser("user-wb-1")).isFalse();
+        assertThat(jdbcTemplate.queryForList("SELECT payload FROM guest_outbox", String.class))
+                .singleElement().asString()
+                .contains("\"user_id\":\"user-wb-1\"", "\"guest_status\":\"arrived\"", "\"previous_status\":\"coming\"");
+    }
+
+    @Test
+    void guestDeletedBeforeFlushIsSkippedWithoutEvent() {
+        guestService.updateGuestStatus(APPOINTMENT_ID, GUEST_ID, new GuestRequest(null, "late"), HOST_ID);
+        jdbcTemplate.update("DELETE FROM guests WHERE guest_id = ?", GUEST_ID);
+
+        writeBehind.flush();
+
+        assertThat(writeBehind.hasPending()).isFalse();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM guest_outbox", Integer.class)).isZero();
+    }
+
+    @Test
+    void unflushedChangesAreReplayedFromLogAfterRestart() throws Exception {
+        Path dir = logDir.resolve("restart");
+        GuestStatusWriteBehind crashed = newInstance(dir);
+        crashed.recover();
+        crashed.accept(APPOINTMENT_ID, GUEST_ID, "user-wb-1", "late", "coming", LocalDateTime.now());
+        crashed.accept(APPOINTMENT_ID, GUEST_ID, "user-wb-1", "absent", "late", LocalDateTime.now());
+        // flush 없이 종료된 것으로 보고 새 인스턴스가 같은 로그 디렉터리에서 시작
+
+        GuestStatusWriteBehind restarted = newInstance(dir);
+        restarted.recover();
+
+        assertThat(restarted.hasPending()).isTrue();
+        assertThat(restarted.hasPendingForUser("user-wb-1")).isTrue();
+        restarted.flush();
+        assertThat(databaseStatus()).isEqualTo("absent");
+        assertThat(restarted.hasPending()).isFalse();
+        assertThat(restarted.hasPendingForUser("user-wb-1")).isFalse();
+        restarted.shutdown();
+    }
+
+    @Test
+    void concurrentAcceptsAreAllInLogWhenTheyReturn() throws Exception {
+        // group commit: 동시에 들어온 접수는 fsync를 공유하지만, 반환된 접수는 모두 로그에 남아 있어야 함
+        Path dir = logDir.resolve("group-commit");
+        GuestStatusWriteBehind crashed = newInstance(dir, new SimpleMeterRegistry());
+        crashed.recover();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                String guestId = "guest-wb-group-" + i;
+                futures.add(executor.submit(() ->
+                        crashed.accept(APPOINTMENT_ID, guestId, "user-wb-group", "late", "coming", LocalDateTime.now())));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        GuestStatusWriteBehind restarted = newInstance(dir, registry);
+        restarted.recover();
+
+        assertThat(registry.get("guest.status.write_behind.pending").gauge().value()).isEqualTo(200);
+        restarted.shutdown();
+    }
+
+    private GuestStatusWriteBehind newInstance(Path dir) {
+        return newInstance(dir, new SimpleMeterRegistry());
+    }
+
+    private GuestStatusWriteBehind newInstance(Path dir, SimpleMeterRegistry meterRegistry) {
+        return new GuestStatusWriteBehind(true, dir.toString(), true, jdbcTemplate, transactionManager,
+                eventPublisher, objectMapper, meterRegistry);
+    }
+
+    private String databaseStatus() {
+        return jdbcTemplate.queryForObject("SELECT guest_status FROM guests WHERE guest_id = ?", String.class, GUEST_ID);
+    }
+}